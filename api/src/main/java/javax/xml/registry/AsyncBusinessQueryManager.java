@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import javax.xml.registry.infomodel.*;
+
+/**
+ * An asynchronous variant of the BusinessQueryManager interface. Each method
+ * takes the same parameters as its BusinessQueryManager counterpart and
+ * returns at once with a CompletableFuture that is completed with the
+ * BulkResponse, or completed exceptionally with the JAXRException thrown by
+ * the registry.
+ * <p>
+ * Requests are carried out on the Executor given to
+ * RegistryService.getAsyncBusinessQueryManager. A provider with a
+ * non-blocking transport can keep many requests in flight without a
+ * blocked thread for each one.
+ *
+ * @see BusinessQueryManager
+ * @see RegistryService#getAsyncBusinessQueryManager(Executor)
+ */
+public interface AsyncBusinessQueryManager {
+
+    /**
+     * Finds all Association objects that match all of the criteria specified by the parameters of this call.
+     *
+     * <DL><DT><B>Capability Level: 0 </B></DL>
+     *
+     * @param findQualifiers a Collection of find qualifiers as defined by the FindQualifier interface
+     * @param sourceObjectId the id of the sourceObject of the Associations that match, or null
+     * @param targetObjectId the id of the targetObject of the Associations that match, or null
+     * @param associationTypes a Collection of associationTypes, or null
+     * @return a CompletableFuture of a BulkResponse containing a Collection of Associations
+     *
+     * @see BusinessQueryManager#findAssociations(Collection, String, String, Collection)
+     */
+    CompletableFuture<BulkResponse> findAssociations(
+        Collection findQualifiers,
+        String sourceObjectId,
+        String targetObjectId,
+        Collection associationTypes
+    );
+
+    /**
+     * Finds all Organization objects that match all of the criteria specified by the parameters of this call.
+     *
+     * <DL><DT><B>Capability Level: 0 </B></DL>
+     *
+     * @param findQualifiers a Collection of find qualifiers as defined by the FindQualifier interface
+     * @param namePatterns a Collection of String or LocalizedString name patterns
+     * @param classifications a Collection of Classification objects
+     * @param specifications a Collection of RegistryObjects that represent a technical specification
+     * @param externalIdentifiers a Collection of ExternalIdentifier objects
+     * @param externalLinks a Collection of ExternalLink objects
+     * @return a CompletableFuture of a BulkResponse containing a Collection of Organizations
+     *
+     * @see BusinessQueryManager#findOrganizations(Collection, Collection, Collection, Collection, Collection, Collection)
+     */
+    CompletableFuture<BulkResponse> findOrganizations(
+        Collection findQualifiers,
+        Collection namePatterns,
+        Collection classifications,
+        Collection specifications,
+        Collection externalIdentifiers,
+        Collection externalLinks
+    );
+
+    /**
+     * Finds all Service objects that match all of the criteria specified by the parameters of this call.
+     *
+     * <DL><DT><B>Capability Level: 0 </B></DL>
+     *
+     * @param orgKey Key identifying an Organization. Required for UDDI providers.
+     * @param findQualifiers a Collection of find qualifiers as defined by the FindQualifier interface
+     * @param namePatterns a Collection of String or LocalizedString name patterns
+     * @param classifications a Collection of Classification objects
+     * @param specifications a Collection of RegistryObjects that represent a technical specification
+     * @return a CompletableFuture of a BulkResponse containing a Collection of Services
+     *
+     * @see BusinessQueryManager#findServices(Key, Collection, Collection, Collection, Collection)
+     */
+    CompletableFuture<BulkResponse> findServices(Key orgKey,
+        Collection findQualifiers,
+        Collection namePatterns,
+        Collection classifications,
+        Collection specifications
+    );
+
+    /**
+     * Finds all ServiceBinding objects that match all of the criteria specified by the parameters of this call.
+     *
+     * <DL><DT><B>Capability Level: 0 </B></DL>
+     *
+     * @param serviceKey Key identifying a Service. Required for UDDI providers.
+     * @param findQualifiers a Collection of find qualifiers as defined by the FindQualifier interface
+     * @param classifications a Collection of Classification objects
+     * @param specifications a Collection of RegistryObjects that represent a technical specification
+     * @return a CompletableFuture of a BulkResponse containing a Collection of ServiceBindings
+     *
+     * @see BusinessQueryManager#findServiceBindings(Key, Collection, Collection, Collection)
+     */
+    CompletableFuture<BulkResponse> findServiceBindings(
+        Key serviceKey,
+        Collection findQualifiers,
+        Collection classifications,
+        Collection specifications
+    );
+
+    /**
+     * Finds all Concept objects that match all of the criteria specified by the parameters of this call.
+     *
+     * <DL><DT><B>Capability Level: 0 </B></DL>
+     *
+     * @param findQualifiers a Collection of find qualifiers as defined by the FindQualifier interface
+     * @param namePatterns a Collection of String or LocalizedString name patterns
+     * @param classifications a Collection of Classification objects
+     * @param externalIdentifiers a Collection of ExternalIdentifier objects
+     * @param externalLinks a Collection of ExternalLink objects
+     * @return a CompletableFuture of a BulkResponse containing a Collection of Concepts
+     *
+     * @see BusinessQueryManager#findConcepts(Collection, Collection, Collection, Collection, Collection)
+     */
+    CompletableFuture<BulkResponse> findConcepts(
+        Collection findQualifiers,
+        Collection namePatterns,
+        Collection classifications,
+        Collection externalIdentifiers,
+        Collection externalLinks
+    );
+
+    /**
+     * Gets the specified RegistryObjects.
+     *
+     * <DL><DT><B>Capability Level: 1 </B></DL>
+     *
+     * @param objectKeys a Collection of Key objects for the desired objects
+     * @return a CompletableFuture of a BulkResponse containing a heterogeneous Collection of RegistryObjects
+     *
+     * @see QueryManager#getRegistryObjects(Collection)
+     */
+    CompletableFuture<BulkResponse> getRegistryObjects(Collection objectKeys);
+
+    /**
+     * Gets the specified RegistryObjects of the specified type.
+     *
+     * <DL><DT><B>Capability Level: 0 </B></DL>
+     *
+     * @param objectKeys a Collection of Key objects for the desired objects
+     * @param objectType a constant from LifeCycleManager that specifies the type of object desired
+     * @return a CompletableFuture of a BulkResponse containing a Collection of RegistryObjects
+     *
+     * @see QueryManager#getRegistryObjects(Collection, String)
+     */
+    CompletableFuture<BulkResponse> getRegistryObjects(Collection objectKeys, String objectType);
+
+    /**
+     * Gets the Executor on which the requests of this object run.
+     *
+     * @return the Executor of this object
+     */
+    Executor getExecutor();
+}
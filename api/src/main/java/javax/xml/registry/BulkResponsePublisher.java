@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Publishes the RegistryObjects of a BulkResponse to subscribers, one
+ * object at a time and only as fast as each subscriber requests them.
+ * <p>
+ * The Subscriber and Subscription interfaces have the same methods and
+ * rules as those of java.util.concurrent.Flow (and Reactive Streams); they
+ * are declared here because this API is compiled for Java 8. An adapter
+ * between the two is a matter of forwarding each call.
+ * <p>
+ * If the BulkResponse is a PagedBulkResponse, the next page is fetched only
+ * when the subscriber has requested more objects than the pages fetched so
+ * far contained, so a slow subscriber slows down the query instead of the
+ * whole result being built in memory. The objects of a page are published
+ * as soon as that page is available.
+ * <p>
+ * Once all objects have been published the subscription completes, unless
+ * getExceptions returned exceptions for any page. In that case onError gets
+ * a new JAXRException, whose cause is the first of them and to which the
+ * others are added as suppressed exceptions; the exceptions of the response
+ * itself are left unchanged. A JAXRException thrown while reading the response
+ * is signalled through onError at once.
+ * <p>
+ * Each subscriber reads the response from its first page. Objects are
+ * delivered, and pages fetched, on the Executor given to the constructor.
+ *
+ * @see BulkResponse
+ * @see PagedBulkResponse
+ */
+public class BulkResponsePublisher {
+
+    /**
+     * Receives the objects of a BulkResponsePublisher, with the same
+     * contract as java.util.concurrent.Flow.Subscriber.
+     *
+     * @param <T> the type of the objects received
+     */
+    public interface Subscriber<T> {
+        /**
+         * Called once, before any other method, with the new Subscription.
+         *
+         * @param subscription the Subscription used to request objects
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Called with the next object, never more often than requested.
+         *
+         * @param item the next object
+         */
+        void onNext(T item);
+
+        /**
+         * Called once if the subscription ends with an error.
+         *
+         * @param throwable the error
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Called once when all objects have been delivered.
+         */
+        void onComplete();
+    }
+
+    /**
+     * Controls the flow of objects to a Subscriber, with the same contract
+     * as java.util.concurrent.Flow.Subscription.
+     */
+    public interface Subscription {
+        /**
+         * Requests <code>n</code> more objects.
+         *
+         * @param n the number of objects requested; must be positive
+         */
+        void request(long n);
+
+        /**
+         * Stops the delivery of objects. No more pages are fetched.
+         */
+        void cancel();
+    }
+
+    private static final int MORE = 0;
+    private static final int WAIT = 1;
+    private static final int END = 2;
+
+    private final BulkResponse response;
+    private final Executor executor;
+
+    /**
+     * Creates a publisher of the objects of the given response.
+     *
+     * @param response the response whose objects are published
+     * @param executor the Executor that delivers objects and fetches pages
+     */
+    public BulkResponsePublisher(BulkResponse response, Executor executor) {
+        if (response == null || executor == null) {
+            throw new NullPointerException();
+        }
+        this.response = response;
+        this.executor = executor;
+    }
+
+    /**
+     * Adds a Subscriber, which receives the objects of the response from
+     * the first one on.
+     *
+     * @param subscriber the Subscriber
+     */
+    public void subscribe(Subscriber<? super RegistryObject> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber");
+        }
+        ResponseSubscription subscription =
+            new ResponseSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private final class ResponseSubscription implements Subscription, Runnable {
+        private final Subscriber<? super RegistryObject> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable badRequest;
+
+        // Only used by the thread running drain.
+        private BulkResponse page;
+        private Iterator objects;
+        private JAXRException failure;
+        private boolean done;
+
+        ResponseSubscription(Subscriber<? super RegistryObject> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        public void request(long n) {
+            if (n <= 0) {
+                badRequest = new IllegalArgumentException(
+                    "Non-positive request: " + n);
+            } else {
+                long current, next;
+                do {
+                    current = demand.get();
+                    next = current + n;
+                    if (next < 0) {
+                        next = Long.MAX_VALUE;
+                    }
+                } while (!demand.compareAndSet(current, next));
+            }
+            schedule();
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException x) {
+                    cancelled = true;
+                    subscriber.onError(x);
+                }
+            }
+        }
+
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (done || cancelled) {
+                return;
+            }
+            if (badRequest != null) {
+                terminate(badRequest);
+                return;
+            }
+            try {
+                while (!cancelled) {
+                    if (objects == null || !objects.hasNext()) {
+                        int next = advance();
+                        if (next == END) {
+                            terminate(failure);
+                            return;
+                        }
+                        if (next == WAIT) {
+                            return;
+                        }
+                        continue;
+                    }
+                    if (demand.get() == 0) {
+                        return;
+                    }
+                    subscriber.onNext((RegistryObject) objects.next());
+                    demand.decrementAndGet();
+                }
+            } catch (JAXRException x) {
+                terminate(x);
+            } catch (RuntimeException x) {
+                terminate(x);
+            }
+        }
+
+        /**
+         * Moves to the next page, fetching it if needed. Returns WAIT if the
+         * next page is not wanted yet, and END when there are no more pages.
+         */
+        private int advance() throws JAXRException {
+            if (page == null) {
+                page = response;
+            } else if (page instanceof PagedBulkResponse &&
+                ((PagedBulkResponse) page).getContinuationToken() != null) {
+                if (demand.get() == 0) {
+                    return WAIT;
+                }
+                page = ((PagedBulkResponse) page).nextPage();
+                if (page == null) {
+                    return END;
+                }
+            } else {
+                return END;
+            }
+            objects = page.getCollection().iterator();
+            Collection exceptions = page.getExceptions();
+            if (exceptions != null) {
+                for (Object o : exceptions) {
+                    JAXRException x = (JAXRException) o;
+                    // The exceptions belong to the response, and are seen
+                    // by every subscriber; they are wrapped, not modified.
+                    if (failure == null) {
+                        failure = new JAXRException(x.getMessage(), x);
+                    } else {
+                        failure.addSuppressed(x);
+                    }
+                }
+            }
+            return MORE;
+        }
+
+        private void terminate(Throwable t) {
+            done = true;
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            if (t == null) {
+                subscriber.onComplete();
+            } else {
+                subscriber.onError(t);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import java.util.*;
+
+/**
+ * Counts and tests the objects of a BulkResponse, reading every page of a
+ * PagedBulkResponse rather than only the first one.
+ * <P>
+ * This class is package private; it implements the count and exist
+ * methods of <code>BusinessQueryManager</code>.
+ */
+final class BulkResponses {
+
+    private BulkResponses() {
+    }
+
+    /**
+     * Counts the objects of the given response, fetching the pages that
+     * follow it.
+     */
+    static int count(BulkResponse response) throws JAXRException {
+        if (!(response instanceof PagedBulkResponse)) {
+            return size(response);
+        }
+        int count = 0;
+        for (PagedBulkResponse page = (PagedBulkResponse) response;
+            page != null; page = page.nextPage()) {
+            count += size(page);
+        }
+        return count;
+    }
+
+    /**
+     * Determines whether the given response has an object, fetching the
+     * pages that follow it only while the pages read so far are empty.
+     */
+    static boolean exist(BulkResponse response) throws JAXRException {
+        if (!(response instanceof PagedBulkResponse)) {
+            return size(response) > 0;
+        }
+        for (PagedBulkResponse page = (PagedBulkResponse) response;
+            page != null; page = page.nextPage()) {
+            if (size(page) > 0) {
+                if (page.getContinuationToken() != null &&
+                    page instanceof CancellableBulkResponse) {
+                    // the remaining pages are not needed
+                    ((CancellableBulkResponse) page).cancel();
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int size(BulkResponse response) throws JAXRException {
+        Collection collection = response.getCollection();
+        return (collection == null) ? 0 : collection.size();
+    }
+}
@@ -417,6 +417,496 @@ public interface BusinessQueryManager extends QueryManager {
 		Collection externalLinks
 	) throws JAXRException;
 
+	/**
+	 * Finds all Organization objects that match all of the criteria specified by the parameters of this call,
+	 * and returns summaries that carry only the attributes of the given Projection.
+	 * <p>
+	 * The default implementation calls findOrganizations and summarizes the result; providers should
+	 * override it to request only the projected attributes from the registry.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @param projection the attributes to return
+	 * @param findQualifiers as for findOrganizations
+	 * @param namePatterns as for findOrganizations
+	 * @param classifications as for findOrganizations
+	 * @param specifications as for findOrganizations
+	 * @param externalIdentifiers as for findOrganizations
+	 * @param externalLinks as for findOrganizations
+	 *
+	 * @return a BulkResponse containing a Collection of RegistryObjectSummary objects
+	 *
+	 * @throws JAXRException if the Jakarta XML Registries provider encounters an internal error
+	 * @see #findOrganizations(Collection, Collection, Collection, Collection, Collection, Collection)
+	 * @see Projection
+	 */
+	default BulkResponse findOrganizations(
+		Projection projection,
+		Collection findQualifiers,
+		Collection namePatterns,
+		Collection classifications,
+		Collection specifications,
+		Collection externalIdentifiers,
+		Collection externalLinks
+	) throws JAXRException {
+		return projection.summarize(findOrganizations(findQualifiers, namePatterns, classifications, specifications, externalIdentifiers, externalLinks));
+	}
+
+	/**
+	 * Finds all Service objects that match all of the criteria specified by the parameters of this call,
+	 * and returns summaries that carry only the attributes of the given Projection.
+	 * <p>
+	 * The default implementation calls findServices and summarizes the result; providers should
+	 * override it to request only the projected attributes from the registry.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @param projection the attributes to return
+	 * @param orgKey as for findServices
+	 * @param findQualifiers as for findServices
+	 * @param namePatterns as for findServices
+	 * @param classifications as for findServices
+	 * @param specifications as for findServices
+	 *
+	 * @return a BulkResponse containing a Collection of RegistryObjectSummary objects
+	 *
+	 * @throws JAXRException if the Jakarta XML Registries provider encounters an internal error
+	 * @see #findServices(Key, Collection, Collection, Collection, Collection)
+	 * @see Projection
+	 */
+	default BulkResponse findServices(
+		Projection projection,
+		Key orgKey,
+		Collection findQualifiers,
+		Collection namePatterns,
+		Collection classifications,
+		Collection specifications
+	) throws JAXRException {
+		return projection.summarize(findServices(orgKey, findQualifiers, namePatterns, classifications, specifications));
+	}
+
+	/**
+	 * Counts the Association objects that findAssociations would return for the same
+	 * parameters, without transferring or building the objects themselves.
+	 * <p>
+	 * The default implementation calls findAssociations and counts the objects of the
+	 * response, following the pages of a PagedBulkResponse. It is subject to the
+	 * same row limits. Providers should override it to count in the registry.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @param findQualifiers as for findAssociations
+	 * @param sourceObjectId as for findAssociations
+	 * @param targetObjectId as for findAssociations
+	 * @param associationTypes as for findAssociations
+	 *
+	 * @return the number of matching Associations
+	 *
+	 * @throws JAXRException if the Jakarta XML Registries provider encounters an internal error
+	 * @see #findAssociations(Collection, String, String, Collection)
+	 */
+	default int countAssociations(
+		Collection findQualifiers,
+		String sourceObjectId,
+		String targetObjectId,
+		Collection associationTypes
+	) throws JAXRException {
+		return BulkResponses.count(findAssociations(findQualifiers, sourceObjectId, targetObjectId, associationTypes));
+	}
+
+	/**
+	 * Determines whether findAssociations would return any Association for the same
+	 * parameters, without transferring or building the objects themselves.
+	 * <p>
+	 * The default implementation calls findAssociations and stops at the first page
+	 * that has an object. Providers should override it to stop at the first
+	 * match in the registry.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @param findQualifiers as for findAssociations
+	 * @param sourceObjectId as for findAssociations
+	 * @param targetObjectId as for findAssociations
+	 * @param associationTypes as for findAssociations
+	 *
+	 * @return <code>true</code> if at least one Association matches; <code>false</code> otherwise
+	 *
+	 * @throws JAXRException if the Jakarta XML Registries provider encounters an internal error
+	 * @see #findAssociations(Collection, String, String, Collection)
+	 */
+	default boolean existAssociations(
+		Collection findQualifiers,
+		String sourceObjectId,
+		String targetObjectId,
+		Collection associationTypes
+	) throws JAXRException {
+		return BulkResponses.exist(findAssociations(findQualifiers, sourceObjectId, targetObjectId, associationTypes));
+	}
+
+	/**
+	 * Counts the Organization objects that findOrganizations would return for the same
+	 * parameters, without transferring or building the objects themselves.
+	 * <p>
+	 * The default implementation calls findOrganizations and counts the objects of the
+	 * response, following the pages of a PagedBulkResponse. It is subject to the
+	 * same row limits. Providers should override it to count in the registry.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @param findQualifiers as for findOrganizations
+	 * @param namePatterns as for findOrganizations
+	 * @param classifications as for findOrganizations
+	 * @param specifications as for findOrganizations
+	 * @param externalIdentifiers as for findOrganizations
+	 * @param externalLinks as for findOrganizations
+	 *
+	 * @return the number of matching Organizations
+	 *
+	 * @throws JAXRException if the Jakarta XML Registries provider encounters an internal error
+	 * @see #findOrganizations(Collection, Collection, Collection, Collection, Collection, Collection)
+	 */
+	default int countOrganizations(
+		Collection findQualifiers,
+		Collection namePatterns,
+		Collection classifications,
+		Collection specifications,
+		Collection externalIdentifiers,
+		Collection externalLinks
+	) throws JAXRException {
+		return BulkResponses.count(findOrganizations(findQualifiers, namePatterns, classifications, specifications, externalIdentifiers, externalLinks));
+	}
+
+	/**
+	 * Determines whether findOrganizations would return any Organization for the same
+	 * parameters, without transferring or building the objects themselves.
+	 * <p>
+	 * The default implementation calls findOrganizations and stops at the first page
+	 * that has an object. Providers should override it to stop at the first
+	 * match in the registry.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @param findQualifiers as for findOrganizations
+	 * @param namePatterns as for findOrganizations
+	 * @param classifications as for findOrganizations
+	 * @param specifications as for findOrganizations
+	 * @param externalIdentifiers as for findOrganizations
+	 * @param externalLinks as for findOrganizations
+	 *
+	 * @return <code>true</code> if at least one Organization matches; <code>false</code> otherwise
+	 *
+	 * @throws JAXRException if the Jakarta XML Registries provider encounters an internal error
+	 * @see #findOrganizations(Collection, Collection, Collection, Collection, Collection, Collection)
+	 */
+	default boolean existOrganizations(
+		Collection findQualifiers,
+		Collection namePatterns,
+		Collection classifications,
+		Collection specifications,
+		Collection externalIdentifiers,
+		Collection externalLinks
+	) throws JAXRException {
+		return BulkResponses.exist(findOrganizations(findQualifiers, namePatterns, classifications, specifications, externalIdentifiers, externalLinks));
+	}
+
+	/**
+	 * Counts the Service objects that findServices would return for the same
+	 * parameters, without transferring or building the objects themselves.
+	 * <p>
+	 * The default implementation calls findServices and counts the objects of the
+	 * response, following the pages of a PagedBulkResponse. It is subject to the
+	 * same row limits. Providers should override it to count in the registry.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @param orgKey as for findServices
+	 * @param findQualifiers as for findServices
+	 * @param namePatterns as for findServices
+	 * @param classifications as for findServices
+	 * @param specifications as for findServices
+	 *
+	 * @return the number of matching Services
+	 *
+	 * @throws JAXRException if the Jakarta XML Registries provider encounters an internal error
+	 * @see #findServices(Key, Collection, Collection, Collection, Collection)
+	 */
+	default int countServices(
+		Key orgKey,
+		Collection findQualifiers,
+		Collection namePatterns,
+		Collection classifications,
+		Collection specifications
+	) throws JAXRException {
+		return BulkResponses.count(findServices(orgKey, findQualifiers, namePatterns, classifications, specifications));
+	}
+
+	/**
+	 * Determines whether findServices would return any Service for the same
+	 * parameters, without transferring or building the objects themselves.
+	 * <p>
+	 * The default implementation calls findServices and stops at the first page
+	 * that has an object. Providers should override it to stop at the first
+	 * match in the registry.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @param orgKey as for findServices
+	 * @param findQualifiers as for findServices
+	 * @param namePatterns as for findServices
+	 * @param classifications as for findServices
+	 * @param specifications as for findServices
+	 *
+	 * @return <code>true</code> if at least one Service matches; <code>false</code> otherwise
+	 *
+	 * @throws JAXRException if the Jakarta XML Registries provider encounters an internal error
+	 * @see #findServices(Key, Collection, Collection, Collection, Collection)
+	 */
+	default boolean existServices(
+		Key orgKey,
+		Collection findQualifiers,
+		Collection namePatterns,
+		Collection classifications,
+		Collection specifications
+	) throws JAXRException {
+		return BulkResponses.exist(findServices(orgKey, findQualifiers, namePatterns, classifications, specifications));
+	}
+
+	/**
+	 * Counts the ServiceBinding objects that findServiceBindings would return for the same
+	 * parameters, without transferring or building the objects themselves.
+	 * <p>
+	 * The default implementation calls findServiceBindings and counts the objects of the
+	 * response, following the pages of a PagedBulkResponse. It is subject to the
+	 * same row limits. Providers should override it to count in the registry.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @param serviceKey as for findServiceBindings
+	 * @param findQualifiers as for findServiceBindings
+	 * @param classifications as for findServiceBindings
+	 * @param specifications as for findServiceBindings
+	 *
+	 * @return the number of matching ServiceBindings
+	 *
+	 * @throws JAXRException if the Jakarta XML Registries provider encounters an internal error
+	 * @see #findServiceBindings(Key, Collection, Collection, Collection)
+	 */
+	default int countServiceBindings(
+		Key serviceKey,
+		Collection findQualifiers,
+		Collection classifications,
+		Collection specifications
+	) throws JAXRException {
+		return BulkResponses.count(findServiceBindings(serviceKey, findQualifiers, classifications, specifications));
+	}
+
+	/**
+	 * Determines whether findServiceBindings would return any ServiceBinding for the same
+	 * parameters, without transferring or building the objects themselves.
+	 * <p>
+	 * The default implementation calls findServiceBindings and stops at the first page
+	 * that has an object. Providers should override it to stop at the first
+	 * match in the registry.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @param serviceKey as for findServiceBindings
+	 * @param findQualifiers as for findServiceBindings
+	 * @param classifications as for findServiceBindings
+	 * @param specifications as for findServiceBindings
+	 *
+	 * @return <code>true</code> if at least one ServiceBinding matches; <code>false</code> otherwise
+	 *
+	 * @throws JAXRException if the Jakarta XML Registries provider encounters an internal error
+	 * @see #findServiceBindings(Key, Collection, Collection, Collection)
+	 */
+	default boolean existServiceBindings(
+		Key serviceKey,
+		Collection findQualifiers,
+		Collection classifications,
+		Collection specifications
+	) throws JAXRException {
+		return BulkResponses.exist(findServiceBindings(serviceKey, findQualifiers, classifications, specifications));
+	}
+
+	/**
+	 * Counts the ClassificationScheme objects that findClassificationSchemes would return for the same
+	 * parameters, without transferring or building the objects themselves.
+	 * <p>
+	 * The default implementation calls findClassificationSchemes and counts the objects of the
+	 * response, following the pages of a PagedBulkResponse. It is subject to the
+	 * same row limits. Providers should override it to count in the registry.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @param findQualifiers as for findClassificationSchemes
+	 * @param namePatterns as for findClassificationSchemes
+	 * @param classifications as for findClassificationSchemes
+	 * @param externalLinks as for findClassificationSchemes
+	 *
+	 * @return the number of matching ClassificationSchemes
+	 *
+	 * @throws JAXRException if the Jakarta XML Registries provider encounters an internal error
+	 * @see #findClassificationSchemes(Collection, Collection, Collection, Collection)
+	 */
+	default int countClassificationSchemes(
+		Collection findQualifiers,
+		Collection namePatterns,
+		Collection classifications,
+		Collection externalLinks
+	) throws JAXRException {
+		return BulkResponses.count(findClassificationSchemes(findQualifiers, namePatterns, classifications, externalLinks));
+	}
+
+	/**
+	 * Determines whether findClassificationSchemes would return any ClassificationScheme for the same
+	 * parameters, without transferring or building the objects themselves.
+	 * <p>
+	 * The default implementation calls findClassificationSchemes and stops at the first page
+	 * that has an object. Providers should override it to stop at the first
+	 * match in the registry.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @param findQualifiers as for findClassificationSchemes
+	 * @param namePatterns as for findClassificationSchemes
+	 * @param classifications as for findClassificationSchemes
+	 * @param externalLinks as for findClassificationSchemes
+	 *
+	 * @return <code>true</code> if at least one ClassificationScheme matches; <code>false</code> otherwise
+	 *
+	 * @throws JAXRException if the Jakarta XML Registries provider encounters an internal error
+	 * @see #findClassificationSchemes(Collection, Collection, Collection, Collection)
+	 */
+	default boolean existClassificationSchemes(
+		Collection findQualifiers,
+		Collection namePatterns,
+		Collection classifications,
+		Collection externalLinks
+	) throws JAXRException {
+		return BulkResponses.exist(findClassificationSchemes(findQualifiers, namePatterns, classifications, externalLinks));
+	}
+
+	/**
+	 * Counts the Concept objects that findConcepts would return for the same
+	 * parameters, without transferring or building the objects themselves.
+	 * <p>
+	 * The default implementation calls findConcepts and counts the objects of the
+	 * response, following the pages of a PagedBulkResponse. It is subject to the
+	 * same row limits. Providers should override it to count in the registry.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @param findQualifiers as for findConcepts
+	 * @param namePatterns as for findConcepts
+	 * @param classifications as for findConcepts
+	 * @param externalIdentifiers as for findConcepts
+	 * @param externalLinks as for findConcepts
+	 *
+	 * @return the number of matching Concepts
+	 *
+	 * @throws JAXRException if the Jakarta XML Registries provider encounters an internal error
+	 * @see #findConcepts(Collection, Collection, Collection, Collection, Collection)
+	 */
+	default int countConcepts(
+		Collection findQualifiers,
+		Collection namePatterns,
+		Collection classifications,
+		Collection externalIdentifiers,
+		Collection externalLinks
+	) throws JAXRException {
+		return BulkResponses.count(findConcepts(findQualifiers, namePatterns, classifications, externalIdentifiers, externalLinks));
+	}
+
+	/**
+	 * Determines whether findConcepts would return any Concept for the same
+	 * parameters, without transferring or building the objects themselves.
+	 * <p>
+	 * The default implementation calls findConcepts and stops at the first page
+	 * that has an object. Providers should override it to stop at the first
+	 * match in the registry.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @param findQualifiers as for findConcepts
+	 * @param namePatterns as for findConcepts
+	 * @param classifications as for findConcepts
+	 * @param externalIdentifiers as for findConcepts
+	 * @param externalLinks as for findConcepts
+	 *
+	 * @return <code>true</code> if at least one Concept matches; <code>false</code> otherwise
+	 *
+	 * @throws JAXRException if the Jakarta XML Registries provider encounters an internal error
+	 * @see #findConcepts(Collection, Collection, Collection, Collection, Collection)
+	 */
+	default boolean existConcepts(
+		Collection findQualifiers,
+		Collection namePatterns,
+		Collection classifications,
+		Collection externalIdentifiers,
+		Collection externalLinks
+	) throws JAXRException {
+		return BulkResponses.exist(findConcepts(findQualifiers, namePatterns, classifications, externalIdentifiers, externalLinks));
+	}
+
+	/**
+	 * Counts the RegistryPackage objects that findRegistryPackages would return for the same
+	 * parameters, without transferring or building the objects themselves.
+	 * <p>
+	 * The default implementation calls findRegistryPackages and counts the objects of the
+	 * response, following the pages of a PagedBulkResponse. It is subject to the
+	 * same row limits. Providers should override it to count in the registry.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @param findQualifiers as for findRegistryPackages
+	 * @param namePatterns as for findRegistryPackages
+	 * @param classifications as for findRegistryPackages
+	 * @param externalLinks as for findRegistryPackages
+	 *
+	 * @return the number of matching RegistryPackages
+	 *
+	 * @throws JAXRException if the Jakarta XML Registries provider encounters an internal error
+	 * @see #findRegistryPackages(Collection, Collection, Collection, Collection)
+	 */
+	default int countRegistryPackages(
+		Collection findQualifiers,
+		Collection namePatterns,
+		Collection classifications,
+		Collection externalLinks
+	) throws JAXRException {
+		return BulkResponses.count(findRegistryPackages(findQualifiers, namePatterns, classifications, externalLinks));
+	}
+
+	/**
+	 * Determines whether findRegistryPackages would return any RegistryPackage for the same
+	 * parameters, without transferring or building the objects themselves.
+	 * <p>
+	 * The default implementation calls findRegistryPackages and stops at the first page
+	 * that has an object. Providers should override it to stop at the first
+	 * match in the registry.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @param findQualifiers as for findRegistryPackages
+	 * @param namePatterns as for findRegistryPackages
+	 * @param classifications as for findRegistryPackages
+	 * @param externalLinks as for findRegistryPackages
+	 *
+	 * @return <code>true</code> if at least one RegistryPackage matches; <code>false</code> otherwise
+	 *
+	 * @throws JAXRException if the Jakarta XML Registries provider encounters an internal error
+	 * @see #findRegistryPackages(Collection, Collection, Collection, Collection)
+	 */
+	default boolean existRegistryPackages(
+		Collection findQualifiers,
+		Collection namePatterns,
+		Collection classifications,
+		Collection externalLinks
+	) throws JAXRException {
+		return BulkResponses.exist(findRegistryPackages(findQualifiers, namePatterns, classifications, externalLinks));
+	}
+
     /** @link dependency
      * @label uses*/
     /*#FindQualifier lnkFindQualifier;*/
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+import javax.xml.registry.infomodel.*;
+
+/**
+ * The handler of the BusinessLifeCycleManager of a CachingConnection. The
+ * interface has many factory methods that only need to be passed on, so
+ * a dynamic proxy is used rather than a class delegating each of them.
+ * <p>
+ * The methods that change objects in the registry, whose names start
+ * with save, delete, deprecate, unDeprecate, confirm or unConfirm, remove
+ * the objects passed to them and the keys they return from the cache,
+ * both before and after the call, so that a lookup made meanwhile does
+ * not cache an old copy. Objects that the registry changes as a
+ * consequence, such as the Services of a deleted Organization, are not
+ * known here and are not removed.
+ * The save, confirm and unConfirm methods also remove all negative
+ * results, since the saved objects may be ones that were missing, and
+ * the saved or confirmed objects ones that an empty query would now
+ * find.
+ */
+class CacheInvalidator implements InvocationHandler {
+
+    private final BusinessLifeCycleManager lcm;
+    private final RegistryService registryService;
+    private final RegistryObjectCache cache;
+
+    CacheInvalidator(BusinessLifeCycleManager lcm,
+    RegistryService registryService, RegistryObjectCache cache) {
+        this.lcm = lcm;
+        this.registryService = registryService;
+        this.cache = cache;
+    }
+
+    public Object invoke(Object proxy, Method method, Object[] args)
+    throws Throwable {
+        String name = method.getName();
+        if (method.getDeclaringClass() == Object.class) {
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+        }
+        if (name.equals("getRegistryService") && args == null) {
+            return registryService;
+        }
+        boolean changes = isChange(name);
+        if (changes && args != null) {
+            for (Object arg : args) {
+                invalidate(arg);
+            }
+        }
+        Object result;
+        try {
+            result = method.invoke(lcm, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+        if (changes && result instanceof BulkResponse &&
+            ((BulkResponse) result).isAvailable()) {
+            invalidate(((BulkResponse) result).getCollection());
+        }
+        if (name.startsWith("save") || name.startsWith("confirm") ||
+            name.startsWith("unConfirm")) {
+            cache.invalidateNegatives();
+        }
+        return result;
+    }
+
+    private static boolean isChange(String name) {
+        return name.startsWith("save") || name.startsWith("delete") ||
+            name.startsWith("deprecate") || name.startsWith("unDeprecate") ||
+            name.startsWith("confirm") || name.startsWith("unConfirm");
+    }
+
+    private void invalidate(Object o) throws JAXRException {
+        if (o instanceof Collection) {
+            for (Object element : (Collection) o) {
+                invalidate(element);
+            }
+        } else if (o instanceof RegistryObject) {
+            invalidate(((RegistryObject) o).getKey());
+        } else if (o instanceof Key) {
+            String id = ((Key) o).getId();
+            if (id != null) {
+                cache.invalidate(id);
+            }
+        }
+    }
+}
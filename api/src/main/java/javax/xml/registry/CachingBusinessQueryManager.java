@@ -0,0 +1,532 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import java.util.*;
+
+import javax.xml.registry.infomodel.*;
+
+/**
+ * The BusinessQueryManager of a CachingConnection. getRegistryObject,
+ * findConceptByPath and findClassificationSchemeByName read through the
+ * cache; the other methods, including those with a default implementation,
+ * are passed to the wrapped BusinessQueryManager so that its own
+ * implementations are used.
+ * <p>
+ * If the cache has negative caching enabled, lookups that find nothing
+ * and find queries that return a complete empty response are remembered
+ * too. A find query is only remembered if its arguments can be turned
+ * into a key: Strings, Keys, Booleans and Collections of them.
+ * findCallerAssociations is never remembered, since what it finds
+ * depends on the caller. A query answered from a negative result gets a
+ * new empty response of its own.
+ * <p>
+ * An expired Versionable object is revalidated with
+ * getRegistryObjectIfModified rather than fetched again in full.
+ */
+class CachingBusinessQueryManager implements BusinessQueryManager {
+
+    private final BusinessQueryManager bqm;
+    private final RegistryService registryService;
+    private final RegistryObjectCache cache;
+
+    CachingBusinessQueryManager(BusinessQueryManager bqm,
+    RegistryService registryService, RegistryObjectCache cache) {
+        this.bqm = bqm;
+        this.registryService = registryService;
+        this.cache = cache;
+    }
+
+    public RegistryObject getRegistryObject(String id, String objectType)
+    throws JAXRException {
+        RegistryObject ro = cache.get(id);
+        String query = "?id=" + id + "&type=" + objectType;
+        if (ro == null && !cache.isAbsent(id) && !cache.isAbsent(query)) {
+            long stamp = cache.stamp();
+            RegistryObject stale = cache.getStale(id);
+            if (stale instanceof Versionable) {
+                return revalidate(id, stale, stamp);
+            }
+            ro = bqm.getRegistryObject(id, objectType);
+            if (ro != null) {
+                cache.put(ro, stamp);
+            } else {
+                cache.putAbsent(query, stamp);
+            }
+        }
+        return ro;
+    }
+
+    public RegistryObject getRegistryObject(String id) throws JAXRException {
+        RegistryObject ro = cache.get(id);
+        if (ro == null && !cache.isAbsent(id)) {
+            long stamp = cache.stamp();
+            RegistryObject stale = cache.getStale(id);
+            if (stale instanceof Versionable) {
+                return revalidate(id, stale, stamp);
+            }
+            ro = bqm.getRegistryObject(id);
+            if (ro != null) {
+                cache.put(ro, stamp);
+            } else {
+                cache.putAbsent(id, stamp);
+            }
+        }
+        return ro;
+    }
+
+    public ClassificationScheme findClassificationSchemeByName(
+    Collection findQualifiers, String namePattern) throws JAXRException {
+        String query = queryKey("findClassificationSchemeByName",
+            findQualifiers, namePattern);
+        if (query == null) {
+            return bqm.findClassificationSchemeByName(findQualifiers,
+                namePattern);
+        }
+        RegistryObject ro = cache.getByQuery(query);
+        if (ro instanceof ClassificationScheme) {
+            return (ClassificationScheme) ro;
+        }
+        if (cache.isAbsent(query)) {
+            return null;
+        }
+        long stamp = cache.stamp();
+        ro = cache.getStaleByQuery(query);
+        if (ro instanceof ClassificationScheme && isUnchanged(ro)) {
+            cache.revalidated(query, ro, stamp);
+            return (ClassificationScheme) ro;
+        }
+        ClassificationScheme scheme =
+            bqm.findClassificationSchemeByName(findQualifiers, namePattern);
+        if (scheme != null) {
+            cache.putByQuery(query, scheme, stamp);
+        } else {
+            cache.putAbsent(query, stamp);
+        }
+        return scheme;
+    }
+
+    public Concept findConceptByPath(String path) throws JAXRException {
+        String query = "?conceptPath=" + path;
+        RegistryObject ro = cache.getByQuery(query);
+        if (ro instanceof Concept) {
+            return (Concept) ro;
+        }
+        if (cache.isAbsent(query)) {
+            return null;
+        }
+        long stamp = cache.stamp();
+        Concept concept = bqm.findConceptByPath(path);
+        if (concept != null) {
+            cache.putByQuery(query, concept, stamp);
+        } else {
+            cache.putAbsent(query, stamp);
+        }
+        return concept;
+    }
+
+    public ConditionalResult getRegistryObjectIfModified(String id,
+    int majorVersion, int minorVersion) throws JAXRException {
+        return bqm.getRegistryObjectIfModified(id, majorVersion, minorVersion);
+    }
+
+    public BulkResponse findAssociations(Collection findQualifiers,
+    String sourceObjectId, String targetObjectId, Collection associationTypes)
+    throws JAXRException {
+        return find("findAssociations",
+            () -> bqm.findAssociations(findQualifiers, sourceObjectId,
+                targetObjectId, associationTypes),
+            findQualifiers, sourceObjectId, targetObjectId, associationTypes);
+    }
+
+    public BulkResponse findCallerAssociations(Collection findQualifiers,
+    Boolean confirmedByCaller, Boolean confirmedByOtherParty,
+    Collection associationTypes) throws JAXRException {
+        return bqm.findCallerAssociations(findQualifiers, confirmedByCaller,
+            confirmedByOtherParty, associationTypes);
+    }
+
+    public BulkResponse findOrganizations(Collection findQualifiers,
+    Collection namePatterns, Collection classifications,
+    Collection specifications, Collection externalIdentifiers,
+    Collection externalLinks) throws JAXRException {
+        return find("findOrganizations",
+            () -> bqm.findOrganizations(findQualifiers, namePatterns,
+                classifications, specifications, externalIdentifiers,
+                externalLinks),
+            findQualifiers, namePatterns, classifications, specifications,
+            externalIdentifiers, externalLinks);
+    }
+
+    public BulkResponse findServices(Key orgKey, Collection findQualifiers,
+    Collection namePatterns, Collection classifications,
+    Collection specifications) throws JAXRException {
+        return find("findServices",
+            () -> bqm.findServices(orgKey, findQualifiers, namePatterns,
+                classifications, specifications),
+            orgKey, findQualifiers, namePatterns, classifications,
+            specifications);
+    }
+
+    public BulkResponse findServiceBindings(Key serviceKey,
+    Collection findQualifiers, Collection classifications,
+    Collection specifications) throws JAXRException {
+        return find("findServiceBindings",
+            () -> bqm.findServiceBindings(serviceKey, findQualifiers,
+                classifications, specifications),
+            serviceKey, findQualifiers, classifications, specifications);
+    }
+
+    public BulkResponse findClassificationSchemes(Collection findQualifiers,
+    Collection namePatterns, Collection classifications,
+    Collection externalLinks) throws JAXRException {
+        return find("findClassificationSchemes",
+            () -> bqm.findClassificationSchemes(findQualifiers, namePatterns,
+                classifications, externalLinks),
+            findQualifiers, namePatterns, classifications, externalLinks);
+    }
+
+    public BulkResponse findConcepts(Collection findQualifiers,
+    Collection namePatterns, Collection classifications,
+    Collection externalIdentifiers, Collection externalLinks)
+    throws JAXRException {
+        return find("findConcepts",
+            () -> bqm.findConcepts(findQualifiers, namePatterns,
+                classifications, externalIdentifiers, externalLinks),
+            findQualifiers, namePatterns, classifications,
+            externalIdentifiers, externalLinks);
+    }
+
+    public BulkResponse findRegistryPackages(Collection findQualifiers,
+    Collection namePatterns, Collection classifications,
+    Collection externalLinks) throws JAXRException {
+        return find("findRegistryPackages",
+            () -> bqm.findRegistryPackages(findQualifiers, namePatterns,
+                classifications, externalLinks),
+            findQualifiers, namePatterns, classifications, externalLinks);
+    }
+
+    public BulkResponse getRegistryObjects(Collection objectKeys)
+    throws JAXRException {
+        return bqm.getRegistryObjects(objectKeys);
+    }
+
+    public BulkResponse getRegistryObjects(Collection objectKeys,
+    String objectTypes) throws JAXRException {
+        return bqm.getRegistryObjects(objectKeys, objectTypes);
+    }
+
+    public BulkResponse getRegistryObjects() throws JAXRException {
+        return bqm.getRegistryObjects();
+    }
+
+    public BulkResponse getRegistryObjects(String objectType)
+    throws JAXRException {
+        return bqm.getRegistryObjects(objectType);
+    }
+
+    public PagedBulkResponse getNextPage(String continuationToken)
+    throws JAXRException {
+        return bqm.getNextPage(continuationToken);
+    }
+
+    public BulkResponse getRegistryObjectSummaries(Projection projection,
+    Collection objectKeys) throws JAXRException {
+        return bqm.getRegistryObjectSummaries(projection, objectKeys);
+    }
+
+    public BulkResponse getRegistryObjectSummaries(Projection projection,
+    String objectType) throws JAXRException {
+        return bqm.getRegistryObjectSummaries(projection, objectType);
+    }
+
+    public BulkResponse findOrganizations(Projection projection,
+    Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection specifications,
+    Collection externalIdentifiers, Collection externalLinks)
+    throws JAXRException {
+        return bqm.findOrganizations(projection, findQualifiers, namePatterns,
+            classifications, specifications, externalIdentifiers,
+            externalLinks);
+    }
+
+    public BulkResponse findServices(Projection projection, Key orgKey,
+    Collection findQualifiers, Collection namePatterns,
+    Collection classifications, Collection specifications)
+    throws JAXRException {
+        return bqm.findServices(projection, orgKey, findQualifiers,
+            namePatterns, classifications, specifications);
+    }
+
+    public int countAssociations(Collection findQualifiers,
+    String sourceObjectId, String targetObjectId, Collection associationTypes)
+    throws JAXRException {
+        return bqm.countAssociations(findQualifiers, sourceObjectId,
+            targetObjectId, associationTypes);
+    }
+
+    public boolean existAssociations(Collection findQualifiers,
+    String sourceObjectId, String targetObjectId, Collection associationTypes)
+    throws JAXRException {
+        return bqm.existAssociations(findQualifiers, sourceObjectId,
+            targetObjectId, associationTypes);
+    }
+
+    public int countOrganizations(Collection findQualifiers,
+    Collection namePatterns, Collection classifications,
+    Collection specifications, Collection externalIdentifiers,
+    Collection externalLinks)
+    throws JAXRException {
+        return bqm.countOrganizations(findQualifiers, namePatterns,
+            classifications, specifications, externalIdentifiers,
+            externalLinks);
+    }
+
+    public boolean existOrganizations(Collection findQualifiers,
+    Collection namePatterns, Collection classifications,
+    Collection specifications, Collection externalIdentifiers,
+    Collection externalLinks)
+    throws JAXRException {
+        return bqm.existOrganizations(findQualifiers, namePatterns,
+            classifications, specifications, externalIdentifiers,
+            externalLinks);
+    }
+
+    public int countServices(Key orgKey, Collection findQualifiers,
+    Collection namePatterns, Collection classifications,
+    Collection specifications)
+    throws JAXRException {
+        return bqm.countServices(orgKey, findQualifiers, namePatterns,
+            classifications, specifications);
+    }
+
+    public boolean existServices(Key orgKey, Collection findQualifiers,
+    Collection namePatterns, Collection classifications,
+    Collection specifications)
+    throws JAXRException {
+        return bqm.existServices(orgKey, findQualifiers, namePatterns,
+            classifications, specifications);
+    }
+
+    public int countServiceBindings(Key serviceKey, Collection findQualifiers,
+    Collection classifications, Collection specifications)
+    throws JAXRException {
+        return bqm.countServiceBindings(serviceKey, findQualifiers,
+            classifications, specifications);
+    }
+
+    public boolean existServiceBindings(Key serviceKey,
+    Collection findQualifiers, Collection classifications,
+    Collection specifications)
+    throws JAXRException {
+        return bqm.existServiceBindings(serviceKey, findQualifiers,
+            classifications, specifications);
+    }
+
+    public int countClassificationSchemes(Collection findQualifiers,
+    Collection namePatterns, Collection classifications,
+    Collection externalLinks)
+    throws JAXRException {
+        return bqm.countClassificationSchemes(findQualifiers, namePatterns,
+            classifications, externalLinks);
+    }
+
+    public boolean existClassificationSchemes(Collection findQualifiers,
+    Collection namePatterns, Collection classifications,
+    Collection externalLinks)
+    throws JAXRException {
+        return bqm.existClassificationSchemes(findQualifiers, namePatterns,
+            classifications, externalLinks);
+    }
+
+    public int countConcepts(Collection findQualifiers,
+    Collection namePatterns, Collection classifications,
+    Collection externalIdentifiers, Collection externalLinks)
+    throws JAXRException {
+        return bqm.countConcepts(findQualifiers, namePatterns,
+            classifications, externalIdentifiers, externalLinks);
+    }
+
+    public boolean existConcepts(Collection findQualifiers,
+    Collection namePatterns, Collection classifications,
+    Collection externalIdentifiers, Collection externalLinks)
+    throws JAXRException {
+        return bqm.existConcepts(findQualifiers, namePatterns,
+            classifications, externalIdentifiers, externalLinks);
+    }
+
+    public int countRegistryPackages(Collection findQualifiers,
+    Collection namePatterns, Collection classifications,
+    Collection externalLinks)
+    throws JAXRException {
+        return bqm.countRegistryPackages(findQualifiers, namePatterns,
+            classifications, externalLinks);
+    }
+
+    public boolean existRegistryPackages(Collection findQualifiers,
+    Collection namePatterns, Collection classifications,
+    Collection externalLinks)
+    throws JAXRException {
+        return bqm.existRegistryPackages(findQualifiers, namePatterns,
+            classifications, externalLinks);
+    }
+
+    public RegistryService getRegistryService() {
+        return registryService;
+    }
+
+    /**
+     * Revalidates an expired Versionable object with a conditional fetch.
+     *
+     * @return the cached object if it has not changed, otherwise the
+     *         current object, or <code>null</code> if it no longer exists
+     */
+    private RegistryObject revalidate(String id, RegistryObject stale,
+    long stamp) throws JAXRException {
+        Versionable v = (Versionable) stale;
+        ConditionalResult result = bqm.getRegistryObjectIfModified(id,
+            v.getMajorVersion(), v.getMinorVersion());
+        if (!result.isModified()) {
+            cache.revalidated(stale, stamp);
+            return stale;
+        }
+        RegistryObject current = result.getRegistryObject();
+        if (current != null) {
+            cache.put(current, stamp);
+        } else {
+            cache.invalidate(id);
+            cache.putAbsent(id, stamp);
+        }
+        return current;
+    }
+
+    /**
+     * Determines with a conditional fetch whether an expired Versionable
+     * object found by a query is unchanged. A changed object is not used,
+     * since the query might now find another one.
+     */
+    private boolean isUnchanged(RegistryObject stale) throws JAXRException {
+        Key key = stale.getKey();
+        if (key == null) {
+            return false;
+        }
+        Versionable v = (Versionable) stale;
+        return !bqm.getRegistryObjectIfModified(key.getId(),
+            v.getMajorVersion(), v.getMinorVersion()).isModified();
+    }
+
+    /**
+     * A find call passed to the wrapped BusinessQueryManager.
+     */
+    private interface Find {
+        BulkResponse run() throws JAXRException;
+    }
+
+    private BulkResponse find(String method, Find find, Object... args)
+    throws JAXRException {
+        String query = cache.isNegativeCaching() ? queryKey(method, args) : null;
+        if (query != null && cache.isAbsent(query)) {
+            return new EmptyBulkResponse();
+        }
+        long stamp = cache.stamp();
+        BulkResponse response = find.run();
+        if (query != null && response.isAvailable() &&
+            !response.isPartialResponse() &&
+            response.getExceptions() == null &&
+            response.getCollection().isEmpty()) {
+            cache.putAbsent(query, stamp);
+        }
+        return response;
+    }
+
+    /**
+     * The response to a find query answered by a cached negative result.
+     * Each caller gets its own, since a response's collection may be
+     * changed by whoever holds it.
+     */
+    private static final class EmptyBulkResponse implements BulkResponse {
+        private final String requestId = UUID.randomUUID().toString();
+        private final Collection collection = new ArrayList();
+
+        public Collection getCollection() {
+            return collection;
+        }
+
+        public Collection getExceptions() {
+            return null;
+        }
+
+        public boolean isPartialResponse() {
+            return false;
+        }
+
+        public String getRequestId() {
+            return requestId;
+        }
+
+        public int getStatus() {
+            return STATUS_SUCCESS;
+        }
+
+        public boolean isAvailable() {
+            return true;
+        }
+    }
+
+    /**
+     * Builds a key from the arguments of a find call.
+     *
+     * @return the key, or <code>null</code> if an argument has no value
+     *         that can be part of a key, such as a Classification
+     */
+    private static String queryKey(String method, Object... args)
+    throws JAXRException {
+        StringBuilder key = new StringBuilder("?").append(method);
+        for (Object arg : args) {
+            key.append('|');
+            if (!appendKey(key, arg)) {
+                return null;
+            }
+        }
+        return key.toString();
+    }
+
+    private static boolean appendKey(StringBuilder key, Object arg)
+    throws JAXRException {
+        if (arg == null || arg instanceof Boolean) {
+            key.append(arg);
+        } else if (arg instanceof String) {
+            key.append('"').append(((String) arg).replace("\\", "\\\\")
+                .replace("\"", "\\\"")).append('"');
+        } else if (arg instanceof Key) {
+            key.append("key:").append(((Key) arg).getId());
+        } else if (arg instanceof Collection) {
+            key.append('[');
+            for (Object element : (Collection) arg) {
+                if (!appendKey(key, element)) {
+                    return false;
+                }
+                key.append(',');
+            }
+            key.append(']');
+        } else {
+            return false;
+        }
+        return true;
+    }
+}
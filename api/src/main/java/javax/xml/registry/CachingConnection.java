@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import java.util.*;
+
+/**
+ * The Connection returned by RegistryObjectCache.wrap. Everything but
+ * getRegistryService is passed to the wrapped Connection.
+ */
+class CachingConnection implements Connection {
+
+    private final Connection connection;
+    private final RegistryObjectCache cache;
+    private volatile CachingRegistryService registryService;
+
+    CachingConnection(Connection connection, RegistryObjectCache cache) {
+        if (connection == null) {
+            throw new NullPointerException();
+        }
+        this.connection = connection;
+        this.cache = cache;
+    }
+
+    public RegistryService getRegistryService() throws JAXRException {
+        CachingRegistryService service = registryService;
+        if (service == null) {
+            service = new CachingRegistryService(
+                connection.getRegistryService(), cache);
+            registryService = service;
+        }
+        return service;
+    }
+
+    public void close() throws JAXRException {
+        connection.close();
+    }
+
+    public boolean isClosed() throws JAXRException {
+        return connection.isClosed();
+    }
+
+    public boolean isSynchronous() throws JAXRException {
+        return connection.isSynchronous();
+    }
+
+    public void setSynchronous(boolean sync) throws JAXRException {
+        connection.setSynchronous(sync);
+    }
+
+    public void setCredentials(Set credentials) throws JAXRException {
+        connection.setCredentials(credentials);
+    }
+
+    public Set getCredentials() throws JAXRException {
+        return connection.getCredentials();
+    }
+}
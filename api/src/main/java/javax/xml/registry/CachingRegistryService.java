@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import java.lang.reflect.*;
+import java.util.concurrent.Executor;
+
+import javax.xml.registry.infomodel.*;
+
+/**
+ * The RegistryService of a CachingConnection. Its BusinessQueryManager
+ * reads through the cache and its BusinessLifeCycleManager invalidates it.
+ */
+class CachingRegistryService implements RegistryService {
+
+    private final RegistryService registryService;
+    private final RegistryObjectCache cache;
+
+    CachingRegistryService(RegistryService registryService,
+    RegistryObjectCache cache) {
+        this.registryService = registryService;
+        this.cache = cache;
+    }
+
+    public CapabilityProfile getCapabilityProfile() throws JAXRException {
+        return registryService.getCapabilityProfile();
+    }
+
+    public BusinessLifeCycleManager getBusinessLifeCycleManager()
+    throws JAXRException {
+        BusinessLifeCycleManager lcm =
+            registryService.getBusinessLifeCycleManager();
+        return (BusinessLifeCycleManager) Proxy.newProxyInstance(
+            BusinessLifeCycleManager.class.getClassLoader(),
+            new Class<?>[] { BusinessLifeCycleManager.class },
+            new CacheInvalidator(lcm, this, cache));
+    }
+
+    public BusinessQueryManager getBusinessQueryManager() throws JAXRException {
+        return new CachingBusinessQueryManager(
+            registryService.getBusinessQueryManager(), this, cache);
+    }
+
+    /**
+     * Gets the AsyncBusinessQueryManager of the wrapped RegistryService,
+     * whose calls do not go through the cache.
+     */
+    public AsyncBusinessQueryManager getAsyncBusinessQueryManager(
+    Executor executor) throws JAXRException {
+        return registryService.getAsyncBusinessQueryManager(executor);
+    }
+
+    public DeclarativeQueryManager getDeclarativeQueryManager()
+    throws JAXRException, UnsupportedCapabilityException {
+        return registryService.getDeclarativeQueryManager();
+    }
+
+    public BulkResponse getBulkResponse(String requestId)
+    throws InvalidRequestException, JAXRException {
+        return registryService.getBulkResponse(requestId);
+    }
+
+    public ClassificationScheme getDefaultPostalScheme() throws JAXRException {
+        return registryService.getDefaultPostalScheme();
+    }
+
+    public String makeRegistrySpecificRequest(String request)
+    throws JAXRException {
+        return registryService.makeRegistrySpecificRequest(request);
+    }
+}
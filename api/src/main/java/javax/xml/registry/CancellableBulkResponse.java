@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+/**
+ * A BulkResponse of a non-synchronous request that can be cancelled before
+ * it completes. Cancelling releases the resources the provider holds for
+ * the request, such as the worker thread and the transport connection.
+ * <p>
+ * A cancelled response has status STATUS_UNAVAILABLE. A response whose
+ * request did not complete before its deadline has status STATUS_TIMEOUT.
+ * In both cases getCollection returns an empty Collection and
+ * getExceptions returns the reason.
+ *
+ * @see Connection#setSynchronous(boolean)
+ * @see Deadline
+ */
+public interface CancellableBulkResponse extends BulkResponse {
+
+	/**
+	 * Cancels the request, unless it has already completed.
+	 * This method must not block.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @return <code>true</code> if this call cancelled the request; <code>false</code> if it had already completed or been cancelled
+	 * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+	 *
+	 */
+	boolean cancel() throws JAXRException;
+
+	/**
+	 * Determines whether the request was cancelled before it completed.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @return <code>true</code> if the request was cancelled; <code>false</code> otherwise
+	 * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+	 *
+	 */
+	boolean isCancelled() throws JAXRException;
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import javax.xml.registry.infomodel.*;
+
+/**
+ * The result of a conditional fetch, which either says that the version
+ * of the object the client holds is still current, or carries the
+ * current object.
+ *
+ * @see QueryManager#getRegistryObjectIfModified(String, int, int)
+ */
+public final class ConditionalResult {
+
+    private static final ConditionalResult NOT_MODIFIED =
+        new ConditionalResult(false, null);
+
+    private final boolean modified;
+    private final RegistryObject registryObject;
+
+    private ConditionalResult(boolean modified, RegistryObject registryObject) {
+        this.modified = modified;
+        this.registryObject = registryObject;
+    }
+
+    /**
+     * Gets the result that says the version the client holds is current.
+     *
+     * @return the not modified result
+     */
+    public static ConditionalResult notModified() {
+        return NOT_MODIFIED;
+    }
+
+    /**
+     * Creates the result that carries the current object.
+     *
+     * @param registryObject the current object, or <code>null</code> if it
+     *        no longer exists
+     * @return the modified result
+     */
+    public static ConditionalResult modified(RegistryObject registryObject) {
+        return new ConditionalResult(true, registryObject);
+    }
+
+    /**
+     * Determines whether the object has changed since the version the
+     * client holds.
+     *
+     * @return <code>true</code> if the object has changed, no longer exists,
+     *         or was fetched without comparing versions; <code>false</code>
+     *         if the version the client holds is current
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * Gets the current object.
+     *
+     * @return the current object, or <code>null</code> if the object was not
+     *         modified or no longer exists
+     */
+    public RegistryObject getRegistryObject() {
+        return registryObject;
+    }
+
+    public String toString() {
+        return modified ? "Modified[" + registryObject + "]" : "NotModified";
+    }
+}
@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An immutable, parsed view of the Properties of a ConnectionFactory.
+ * The standard connection properties are validated and converted to
+ * their types once, typically when a Connection is created, so that the
+ * Connection and its managers can read plain fields afterwards instead of
+ * looking up and re-parsing strings in a shared Properties object.
+ * <p>
+ * Properties that are not standard, such as provider specific ones, are
+ * kept as strings and are available from {@link #getProperty(String)}.
+ *
+ * @see ConnectionFactory#setProperties(Properties)
+ * @see ConnectionFactory#getConnectionConfiguration()
+ */
+public final class ConnectionConfiguration {
+
+    /** URL String for the query manager service within the target registry provider. */
+    public static final String QUERY_MANAGER_URL = "javax.xml.registry.queryManagerURL";
+
+    /** URL String for the life cycle manager service within the target registry provider. */
+    public static final String LIFE_CYCLE_MANAGER_URL = "javax.xml.registry.lifeCycleManagerURL";
+
+    /** String that allows specification of semantic equivalences. */
+    public static final String SEMANTIC_EQUIVALENCES = "javax.xml.registry.semanticEquivalences";
+
+    /** Hint on the authentication method to be used when authenticating with the registry provider. */
+    public static final String AUTHENTICATION_METHOD = "javax.xml.registry.security.authenticationMethod";
+
+    /** Maximum number of rows to be returned for find operations by UDDI providers. */
+    public static final String UDDI_MAX_ROWS = "javax.xml.registry.uddi.maxRows";
+
+    /** Id of the ClassificationScheme used as the default postal address scheme. */
+    public static final String POSTAL_ADDRESS_SCHEME = "javax.xml.registry.postalAddressScheme";
+
+    /**
+     * How a non-synchronous Connection runs its requests: {@link #EXECUTION_MODE_PLATFORM} (the default)
+     * or {@link #EXECUTION_MODE_VIRTUAL}.
+     */
+    public static final String EXECUTION_MODE = "javax.xml.registry.executionMode";
+
+    /** Maximum number of requests a non-synchronous Connection runs at the same time. */
+    public static final String MAX_CONCURRENT_REQUESTS = "javax.xml.registry.maxConcurrentRequests";
+
+    /** Default time, in milliseconds, in which a request must complete. */
+    public static final String REQUEST_TIMEOUT = "javax.xml.registry.requestTimeout";
+
+    /** Number of objects per page of a PagedBulkResponse. */
+    public static final String PAGE_SIZE = "javax.xml.registry.pageSize";
+
+    /** Value of the executionMode property that runs requests on platform threads. */
+    public static final String EXECUTION_MODE_PLATFORM = "platform";
+
+    /** Value of the executionMode property that runs each request on its own virtual thread. */
+    public static final String EXECUTION_MODE_VIRTUAL = "virtual";
+
+    private final Map<String, String> properties;
+    private final String queryManagerURL;
+    private final String lifeCycleManagerURL;
+    private final String authenticationMethod;
+    private final int maxRows;
+    private final String postalAddressScheme;
+    private final Map<String, String> equivalentConcepts;
+    private final String executionMode;
+    private final int maxConcurrentRequests;
+    private final long requestTimeout;
+    private final int pageSize;
+
+    private ConnectionConfiguration(Map<String, String> properties)
+    throws InvalidRequestException {
+        this.properties = properties;
+        this.queryManagerURL = url(QUERY_MANAGER_URL);
+        String lcmURL = url(LIFE_CYCLE_MANAGER_URL);
+        this.lifeCycleManagerURL = (lcmURL != null) ? lcmURL : queryManagerURL;
+        this.authenticationMethod = properties.get(AUTHENTICATION_METHOD);
+        this.maxRows = nonNegativeInt(UDDI_MAX_ROWS);
+        this.postalAddressScheme = properties.get(POSTAL_ADDRESS_SCHEME);
+        this.equivalentConcepts =
+            parseEquivalences(properties.get(SEMANTIC_EQUIVALENCES));
+        this.executionMode = executionMode();
+        this.maxConcurrentRequests = nonNegativeInt(MAX_CONCURRENT_REQUESTS);
+        this.requestTimeout = nonNegativeInt(REQUEST_TIMEOUT);
+        this.pageSize = nonNegativeInt(PAGE_SIZE);
+        if (maxConcurrentRequests == 0) {
+            throw new InvalidRequestException(
+                "Invalid value for " + MAX_CONCURRENT_REQUESTS + ": 0");
+        }
+        if (requestTimeout == 0) {
+            throw new InvalidRequestException(
+                "Invalid value for " + REQUEST_TIMEOUT + ": 0");
+        }
+        if (pageSize == 0) {
+            throw new InvalidRequestException(
+                "Invalid value for " + PAGE_SIZE + ": 0");
+        }
+    }
+
+    /**
+     * Parses and validates the given connection properties.
+     *
+     * @param properties the connection properties; may be <code>null</code>
+     * @return the parsed configuration
+     * @throws InvalidRequestException if a standard property has an invalid value
+     */
+    public static ConnectionConfiguration parse(Properties properties)
+    throws InvalidRequestException {
+        Map<String, String> map = new HashMap<String, String>();
+        if (properties != null) {
+            for (String name : properties.stringPropertyNames()) {
+                String value = properties.getProperty(name);
+                if (value != null) {
+                    map.put(name, value.trim());
+                }
+            }
+        }
+        return new ConnectionConfiguration(Collections.unmodifiableMap(map));
+    }
+
+    /**
+     * Gets the URL of the query manager service.
+     *
+     * @return the query manager URL, or <code>null</code> if not specified
+     */
+    public String getQueryManagerURL() {
+        return queryManagerURL;
+    }
+
+    /**
+     * Gets the URL of the life cycle manager service. Defaults to the
+     * query manager URL if not specified.
+     *
+     * @return the life cycle manager URL, or <code>null</code> if neither URL is specified
+     */
+    public String getLifeCycleManagerURL() {
+        return lifeCycleManagerURL;
+    }
+
+    /**
+     * Gets the hint on the authentication method to use, such as
+     * "UDDI_GET_AUTHTOKEN", "HTTP_BASIC", "CLIENT_CERTIFICATE" or "MS_PASSPORT".
+     *
+     * @return the authentication method, or <code>null</code> if not specified
+     */
+    public String getAuthenticationMethod() {
+        return authenticationMethod;
+    }
+
+    /**
+     * Gets the maximum number of rows to be returned for find operations.
+     *
+     * @return the maximum number of rows, or -1 if not specified
+     */
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    /**
+     * Gets the id of the ClassificationScheme used as the default postal
+     * address scheme.
+     *
+     * @return the postal address scheme id, or <code>null</code> if not specified
+     */
+    public String getPostalAddressScheme() {
+        return postalAddressScheme;
+    }
+
+    /**
+     * Gets the id that represents all the Concepts declared semantically
+     * equivalent to the Concept with the given id. Concepts with no declared
+     * equivalence represent themselves.
+     *
+     * @param conceptId the id of a Concept
+     * @return the representative id of the equivalence class of <code>conceptId</code>
+     */
+    public String getEquivalentConceptId(String conceptId) {
+        String id = equivalentConcepts.get(conceptId);
+        return (id != null) ? id : conceptId;
+    }
+
+    /**
+     * Determines whether two Concepts are semantically equivalent, either
+     * because they are the same Concept or because they were declared
+     * equivalent in the semanticEquivalences property.
+     *
+     * @param conceptId1 the id of a Concept
+     * @param conceptId2 the id of another Concept
+     * @return <code>true</code> if the Concepts are equivalent; <code>false</code> otherwise
+     */
+    public boolean areEquivalentConcepts(String conceptId1, String conceptId2) {
+        return getEquivalentConceptId(conceptId1).equals(
+            getEquivalentConceptId(conceptId2));
+    }
+
+    /**
+     * Gets how a non-synchronous Connection runs its requests.
+     *
+     * @return {@link #EXECUTION_MODE_PLATFORM} or {@link #EXECUTION_MODE_VIRTUAL}
+     */
+    public String getExecutionMode() {
+        return executionMode;
+    }
+
+    /**
+     * Gets the maximum number of requests a non-synchronous Connection runs
+     * at the same time.
+     *
+     * @return the maximum number of concurrent requests, or -1 if there is no limit
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Gets the default time in which a request must complete.
+     *
+     * @return the request timeout in milliseconds, or -1 if there is none
+     */
+    public long getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    /**
+     * Gets the Deadline for a request starting now: the current Deadline
+     * if the client set one, otherwise the default request timeout from
+     * now, whichever is earlier.
+     *
+     * @return the Deadline of the request, or <code>null</code> if it has none
+     * @see Deadline#current()
+     */
+    public Deadline getRequestDeadline() {
+        Deadline deadline = Deadline.current();
+        if (requestTimeout >= 0) {
+            deadline = Deadline.earliest(deadline,
+                Deadline.after(requestTimeout, TimeUnit.MILLISECONDS));
+        }
+        return deadline;
+    }
+
+    /**
+     * Gets the number of objects per page of a paged query.
+     *
+     * @return the page size, or -1 if results are not paged
+     * @see PagedBulkResponse
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Gets the value of any connection property, standard or provider specific.
+     *
+     * @param name the name of the property
+     * @return the trimmed value of the property, or <code>null</code> if not specified
+     */
+    public String getProperty(String name) {
+        return properties.get(name);
+    }
+
+    /**
+     * Gets all connection properties.
+     *
+     * @return an unmodifiable Map of property names to trimmed values
+     */
+    public Map<String, String> getProperties() {
+        return properties;
+    }
+
+    private String url(String name) throws InvalidRequestException {
+        String value = properties.get(name);
+        if (value == null || value.length() == 0) {
+            return null;
+        }
+        try {
+            new URI(value);
+        } catch (URISyntaxException x) {
+            throw new InvalidRequestException(
+                "Invalid URL for " + name + ": " + value, x);
+        }
+        return value;
+    }
+
+    private String executionMode() throws InvalidRequestException {
+        String value = properties.get(EXECUTION_MODE);
+        if (value == null || value.length() == 0 ||
+            value.equalsIgnoreCase(EXECUTION_MODE_PLATFORM)) {
+            return EXECUTION_MODE_PLATFORM;
+        }
+        if (value.equalsIgnoreCase(EXECUTION_MODE_VIRTUAL)) {
+            return EXECUTION_MODE_VIRTUAL;
+        }
+        throw new InvalidRequestException(
+            "Invalid value for " + EXECUTION_MODE + ": " + value);
+    }
+
+    private int nonNegativeInt(String name) throws InvalidRequestException {
+        String value = properties.get(name);
+        if (value == null || value.length() == 0) {
+            return -1;
+        }
+        try {
+            int i = Integer.parseInt(value);
+            if (i >= 0) {
+                return i;
+            }
+        } catch (NumberFormatException x) {
+        }
+        throw new InvalidRequestException(
+            "Invalid value for " + name + ": " + value);
+    }
+
+    /**
+     * Parses the semanticEquivalences property, which is a '|' separated
+     * list of ',' separated pairs of Concept ids, into a map from each id to
+     * the representative id of its equivalence class.
+     */
+    private static Map<String, String> parseEquivalences(String value)
+    throws InvalidRequestException {
+        if (value == null || value.length() == 0) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> parent = new HashMap<String, String>();
+        StringTokenizer pairs = new StringTokenizer(value, "|");
+        while (pairs.hasMoreTokens()) {
+            String pair = pairs.nextToken().trim();
+            if (pair.length() == 0) {
+                continue;
+            }
+            int comma = pair.indexOf(',');
+            if (comma <= 0 || comma == pair.length() - 1) {
+                throw new InvalidRequestException(
+                    "Invalid value for " + SEMANTIC_EQUIVALENCES + ": " + pair);
+            }
+            String root1 = root(parent, pair.substring(0, comma).trim());
+            String root2 = root(parent, pair.substring(comma + 1).trim());
+            if (!root1.equals(root2)) {
+                parent.put(root2, root1);
+            }
+        }
+        Map<String, String> result = new HashMap<String, String>();
+        for (String id : parent.keySet()) {
+            result.put(id, root(parent, id));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static String root(Map<String, String> parent, String id) {
+        String p = parent.get(id);
+        if (p == null) {
+            parent.put(id, id);
+            return id;
+        }
+        while (!p.equals(id)) {
+            id = p;
+            p = parent.get(id);
+        }
+        return id;
+    }
+}
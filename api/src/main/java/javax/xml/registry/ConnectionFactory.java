@@ -18,6 +18,8 @@ package javax.xml.registry;
 
 import java.util.*;
 import java.io.*;
+import java.lang.reflect.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * This is the abstract base class for factory classes for creating a Jakarta XML Registries connection.
@@ -30,6 +32,18 @@ import java.io.*;
  * <h2>Looking Up a ConnectionFactory Without Using the JNDI API</h2>
  * The Jakarta XML Registries provides an alternative way to look up a Jakarta XML Registries ConnectionFactory that does not require the use of the JNDI API. This is done using the newInstance static method on the abstract class ConnectionFactory provided in the Jakarta XML Registries API. The newInstance method returns a Jakarta XML Registries ConnectionFactory. The client may indicate which factory class should be instantiated by the newInstance method by defining the system property javax.xml.registry.ConnectionFactoryClass.
  * If this property is not set, the Jakarta XML Registries provider must return a default ConnectionFactory instance.
+ * <p>
+ * When the property is not set and <code>jaxr.properties</code> does not name a factory class, every
+ * <code>META-INF/services/javax.xml.registry.ConnectionFactoryClass</code> resource visible to the context class loader is read,
+ * and the provider with the highest declared priority, then the highest declared capability level, is instantiated.
+ * These attributes are given in a comment after the class name, e.g.
+ * <code>com.example.RegistryConnectionFactory # priority=10, capabilityLevel=1</code>.
+ * Providers that are not chosen are never loaded.
+ * <p>
+ * A provider can also be made available by implementing {@link ConnectionFactoryProvider} and either
+ * listing it in <code>META-INF/services/javax.xml.registry.ConnectionFactoryProvider</code> or passing it to
+ * {@link #registerProvider(ConnectionFactoryProvider)}. Providers listed in that resource are ranked by the same
+ * comment attributes, and only the one chosen is instantiated.
  *
  *
  * @see Connection
@@ -51,6 +65,10 @@ public abstract class ConnectionFactory {
      * <DD><CODE>javax.xml.registry.security.authenticationMethod</CODE> - string that provides a hint to the Jakarta XML Registries provider on the authentication method to be used when authenticating with the registry provider. Possible value include but are not limited to "UDDI_GET_AUTHTOKEN", "HTTP_BASIC", "CLIENT_CERTIFICATE", "MS_PASSPORT"
      * <DD><CODE>javax.xml.registry.uddi.maxRows</CODE> - integer that specifies the maximum number of rows to be returned for find operations. This property is specific for UDDI providers
      * <DD><CODE>javax.xml.registry.postalAddressScheme</CODE> - String that specifies the id of a ClassificationScheme that is used as the default postal address scheme for this connection
+     * <DD><CODE>javax.xml.registry.executionMode</CODE> - "platform" (default) or "virtual". Specifies whether a non-synchronous connection runs each request on a platform thread from a pool or on its own virtual thread
+     * <DD><CODE>javax.xml.registry.maxConcurrentRequests</CODE> - integer that specifies the maximum number of requests a non-synchronous connection runs at the same time. Further requests wait until one completes
+     * <DD><CODE>javax.xml.registry.requestTimeout</CODE> - integer that specifies the default time in milliseconds in which a request must complete. It can be shortened for particular calls with a Deadline
+     * <DD><CODE>javax.xml.registry.pageSize</CODE> - integer that specifies the number of objects per page when the provider returns results as a PagedBulkResponse
      * </DL>
      * <DL><DT><B>Capability Level: 0 </B></DL>
      *
@@ -74,6 +92,24 @@ public abstract class ConnectionFactory {
     public abstract Properties getProperties() throws JAXRException;
 
 
+    /**
+     * Gets the Properties of this factory, as returned by getProperties,
+     * parsed and validated into an immutable ConnectionConfiguration.
+     * A provider typically calls this once in createConnection and gives
+     * the result to the Connection it creates.
+     *
+     * <DL><DT><B>Capability Level: 0 </B></DL>
+     *
+     * @return the parsed configuration
+     * @throws InvalidRequestException If a standard connection property has an invalid value
+     * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+     *
+     * @see javax.xml.registry.ConnectionConfiguration
+     */
+    public ConnectionConfiguration getConnectionConfiguration() throws JAXRException {
+        return ConnectionConfiguration.parse(getProperties());
+    }
+
     /**
      * Create a named connection. Such a connection can be used to
      * communicate with a Jakarta XML Registries provider.
@@ -102,8 +138,89 @@ public abstract class ConnectionFactory {
      */
     public abstract FederatedConnection createFederatedConnection(Collection connections) throws JAXRException;
 
+    /**
+     * Creates a ConnectionPool of connections created by this factory.
+     * The pool opens <code>minIdle</code> connections before it is returned.
+     *
+     * <DL><DT><B>Capability Level: 0 </B></DL>
+     *
+     * @param minIdle the number of idle connections the pool keeps open
+     * @param maxSize the maximum number of connections, idle or in use
+     * @return the ConnectionPool created by this call
+     * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+     *
+     * @see javax.xml.registry.ConnectionPool
+     */
+    public ConnectionPool createConnectionPool(int minIdle, int maxSize) throws JAXRException {
+        return new ConnectionPool(this, minIdle, maxSize);
+    }
+
+    /**
+     * Gets a Connection from a ConnectionPool that this factory creates on
+     * first use. Closing the Connection returns it to that pool. The pool
+     * keeps no idle connections open up front and holds at most
+     * <code>DEFAULT_POOL_SIZE</code> connections; use
+     * {@link #createConnectionPool(int, int)} for a pool of another size.
+     * The credentials of the pooled connections are set on the pool
+     * returned by {@link #getDefaultConnectionPool()}.
+     *
+     * <DL><DT><B>Capability Level: 0 </B></DL>
+     *
+     * @return a pooled Connection
+     * @throws JAXRException	If no Connection became available in time,
+     *         or the Jakarta XML Registries provider encounters an internal error
+     *
+     * @see javax.xml.registry.ConnectionPool#getConnection()
+     */
+    public Connection createPooledConnection() throws JAXRException {
+        return getDefaultConnectionPool().getConnection();
+    }
+
+    /**
+     * Gets the ConnectionPool used by {@link #createPooledConnection()},
+     * creating it on first use. A pooled connection has its credentials
+     * put back to those of the pool when it is returned, so credentials
+     * that every pooled connection should use are set on this pool with
+     * {@link ConnectionPool#setCredentials(Set)}.
+     *
+     * <DL><DT><B>Capability Level: 0 </B></DL>
+     *
+     * @return the default ConnectionPool of this factory
+     * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+     *
+     * @see javax.xml.registry.ConnectionPool
+     */
+    public ConnectionPool getDefaultConnectionPool() throws JAXRException {
+        ConnectionPool pool = defaultPool;
+        if (pool == null || pool.isClosed()) {
+            synchronized (this) {
+                pool = defaultPool;
+                if (pool == null || pool.isClosed()) {
+                    pool = createConnectionPool(0, DEFAULT_POOL_SIZE);
+                    defaultPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * The maximum number of connections of the pool used by
+     * {@link #createPooledConnection()}.
+     */
+    public static final int DEFAULT_POOL_SIZE = 16;
+
+    private volatile ConnectionPool defaultPool;
+
     /**
      * Creates a default <code>ConnectionFactory</code> object.
+     * <P>
+     * The provider class is looked up once per context class loader and
+     * remembered; later calls only create a new instance of that class.
+     * Changing the <code>javax.xml.registry.ConnectionFactoryClass</code>
+     * system property causes the provider to be looked up again. Other
+     * changes, such as editing <code>jaxr.properties</code> or adding a
+     * provider jar, require a call to {@link #clearProviderCache}.
      *
      * @return a new instance of a <code>ConnectionFactory</code>
      * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
@@ -120,17 +237,71 @@ public abstract class ConnectionFactory {
         }
     }
 
-    private static Object newInstance(String className,
+    /**
+     * Discards the provider classes remembered by previous calls to
+     * {@link #newInstance()}, so that the next call looks the provider up
+     * again from the system property, <code>jaxr.properties</code> and
+     * <code>META-INF/services</code>.
+     */
+    public static void clearProviderCache() {
+        ProviderCache.clear();
+    }
+
+    /**
+     * Registers a ConnectionFactoryProvider for use by {@link #newInstance()}.
+     * Registered providers take precedence over those found in
+     * <code>jaxr.properties</code> or <code>META-INF/services</code>, but not
+     * over the <code>javax.xml.registry.ConnectionFactoryClass</code> system
+     * property. When several providers are registered, the one with the
+     * highest priority is used.
+     *
+     * @param provider the provider to register
+     */
+    public static void registerProvider(ConnectionFactoryProvider provider) {
+        if (provider == null) {
+            throw new NullPointerException("provider");
+        }
+        registeredProviders.addIfAbsent(provider);
+    }
+
+    /**
+     * Removes a ConnectionFactoryProvider registered with
+     * {@link #registerProvider(ConnectionFactoryProvider)}.
+     *
+     * @param provider the provider to remove
+     */
+    public static void unregisterProvider(ConnectionFactoryProvider provider) {
+        registeredProviders.remove(provider);
+    }
+
+    private static Object newInstance(Constructor<?> constructor)
+    throws JAXRException {
+        try {
+            return constructor.newInstance();
+        } catch (InvocationTargetException x) {
+            Throwable t = x.getTargetException();
+            throw new JAXRException(
+            "Provider " + constructor.getDeclaringClass().getName() +
+            " could not be instantiated: " + t, t);
+        } catch (Exception x) {
+            throw new JAXRException(
+            "Provider " + constructor.getDeclaringClass().getName() +
+            " could not be instantiated: " + x,
+            x);
+        }
+    }
+
+    private static Constructor<?> getProviderConstructor(String className,
     ClassLoader classLoader)
     throws JAXRException {
         try {
-            Class spiClass;
+            Class<?> spiClass;
             if (classLoader == null) {
                 spiClass = Class.forName(className);
             } else {
                 spiClass = classLoader.loadClass(className);
             }
-            return spiClass.newInstance();
+            return spiClass.getConstructor();
         } catch (ClassNotFoundException x) {
             throw new JAXRException(
             "Provider " + className + " not found", x);
@@ -141,16 +312,43 @@ public abstract class ConnectionFactory {
         }
     }
 
+    private static ConnectionFactoryProvider getFactoryProvider(
+    String className, ClassLoader classLoader)
+    throws JAXRException {
+        try {
+            Class<?> spiClass = Class.forName(className, false, classLoader);
+            if (!ConnectionFactoryProvider.class.isAssignableFrom(spiClass)) {
+                throw new JAXRException(
+                "Provider " + className + " is not a ConnectionFactoryProvider");
+            }
+            return (ConnectionFactoryProvider)
+                newInstance(spiClass.getConstructor());
+        } catch (ClassNotFoundException x) {
+            throw new JAXRException(
+            "Provider " + className + " not found", x);
+        } catch (LinkageError x) {
+            throw new JAXRException(
+            "Provider " + className + " could not be loaded: " + x, x);
+        } catch (NoSuchMethodException x) {
+            throw new JAXRException(
+            "Provider " + className + " could not be instantiated: " + x,
+            x);
+        }
+    }
+
     /**
      * Finds the implementation <code>Class</code> object for the given
      * factory name, or if that fails, finds the <code>Class</code> object
-     * for the given fallback class name. The arguments supplied must be
-     * used in order. If using the first argument is successful, the second
-     * one will not be used.
+     * for the given fallback class name, and returns a new instance of it.
+     * The arguments supplied must be used in order. If using the first
+     * argument is successful, the second one will not be used.
+     * <P>
+     * The class found is cached per context class loader, see
+     * {@link #newInstance()}.
      * <P>
      * This method is package private so that this code can be shared.
      *
-     * @return the <code>Class</code> object of the specified message factory;
+     * @return a new instance of the specified factory class;
      *         may not be <code>null</code>
      *
      * @param factoryId             the name of the factory to find, which is
@@ -171,16 +369,58 @@ public abstract class ConnectionFactory {
             throw new JAXRException(x.toString(), x);
         }
 
-        // Use the system property first
+        String systemProp = null;
         try {
-            String systemProp =
-            System.getProperty( factoryId );
-            if( systemProp!=null) {
-                return newInstance(systemProp, classLoader);
-            }
+            systemProp = System.getProperty( factoryId );
         } catch (SecurityException se) {
         }
 
+        if (systemProp == null && CONNECTION_FACTORY_CLASS.equals(factoryId)) {
+            ConnectionFactoryProvider registered = best(registeredProviders);
+            if (registered != null) {
+                return registered.createConnectionFactory();
+            }
+        }
+
+        Object provider =
+            ProviderCache.get(classLoader, factoryId, systemProp);
+        if (provider == null) {
+            provider = findProvider(factoryId, fallbackClassName,
+                classLoader, systemProp);
+            ProviderCache.put(classLoader, factoryId, systemProp, provider);
+        }
+        if (provider instanceof ConnectionFactoryProvider) {
+            return ((ConnectionFactoryProvider) provider).createConnectionFactory();
+        }
+        return newInstance((Constructor<?>) provider);
+    }
+
+    /**
+     * Returns the provider with the highest priority, or <code>null</code>.
+     */
+    private static ConnectionFactoryProvider best(
+    Iterable<ConnectionFactoryProvider> providers) {
+        ConnectionFactoryProvider best = null;
+        for (ConnectionFactoryProvider provider : providers) {
+            if (best == null || provider.getPriority() > best.getPriority()) {
+                best = provider;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns either the public no-argument constructor of the provider
+     * class or a <code>ConnectionFactoryProvider</code>.
+     */
+    private static Object findProvider(String factoryId,
+    String fallbackClassName, ClassLoader classLoader, String systemProp)
+    throws JAXRException {
+        // Use the system property first
+        if( systemProp!=null) {
+            return getProviderConstructor(systemProp, classLoader);
+        }
+
         // try to read from $java.home/lib/jaxr.properties
         try {
             String javah=System.getProperty( "java.home" );
@@ -189,36 +429,43 @@ public abstract class ConnectionFactory {
             File f=new File( configFile );
             if( f.exists()) {
                 Properties props=new Properties();
-                props.load( new FileInputStream(f));
+                InputStream in = new FileInputStream(f);
+                try {
+                    props.load(in);
+                } finally {
+                    in.close();
+                }
                 String factoryClassName = props.getProperty(factoryId);
-                return newInstance(factoryClassName, classLoader);
+                return getProviderConstructor(factoryClassName, classLoader);
             }
         } catch(Exception ex ) {
         }
 
-        String serviceId = "META-INF/services/" + factoryId;
-        // try to find services in CLASSPATH
-        try {
-            InputStream is=null;
-            if (classLoader == null) {
-                is=ClassLoader.getSystemResourceAsStream(serviceId);
-            } else {
-                is=classLoader.getResourceAsStream(serviceId);
+        // try the ConnectionFactoryProviders declared in META-INF/services,
+        // best first, instantiating only the one that is used
+        if (CONNECTION_FACTORY_CLASS.equals(factoryId)) {
+            for (ProviderRegistry.Candidate candidate :
+                ProviderRegistry.getCandidates(CONNECTION_FACTORY_PROVIDER,
+                    classLoader)) {
+                try {
+                    return getFactoryProvider(candidate.getClassName(),
+                        classLoader);
+                } catch (JAXRException ex) {
+                    // try the next best provider
+                }
             }
+        }
 
-            if( is!=null ) {
-                BufferedReader rd =
-                new BufferedReader(new InputStreamReader(is, "UTF-8"));
-
-                String factoryClassName = rd.readLine();
-                rd.close();
-
-                if (factoryClassName != null &&
-                ! "".equals(factoryClassName)) {
-                    return newInstance(factoryClassName, classLoader);
-                }
+        // try the providers declared in META-INF/services, best first
+        List<ProviderRegistry.Candidate> candidates =
+            ProviderRegistry.getCandidates(factoryId, classLoader);
+        for (ProviderRegistry.Candidate candidate : candidates) {
+            try {
+                return getProviderConstructor(candidate.getClassName(),
+                    classLoader);
+            } catch (JAXRException ex) {
+                // try the next best provider
             }
-        } catch( Exception ex ) {
         }
 
         if (fallbackClassName == null) {
@@ -226,12 +473,18 @@ public abstract class ConnectionFactory {
             "Provider for " + factoryId + " cannot be found", null);
         }
 
-        return newInstance(fallbackClassName, classLoader);
+        return getProviderConstructor(fallbackClassName, classLoader);
     }
 
+    static private final CopyOnWriteArrayList<ConnectionFactoryProvider> registeredProviders
+    = new CopyOnWriteArrayList<ConnectionFactoryProvider>();
+
     static private final String CONNECTION_FACTORY_CLASS
     = "javax.xml.registry.ConnectionFactoryClass";
 
+    static private final String CONNECTION_FACTORY_PROVIDER
+    = "javax.xml.registry.ConnectionFactoryProvider";
+
     static private final String DEFAULT_CONNECTION_FACTORY
     = "com.sun.xml.registry.common.ConnectionFactoryImpl";
 
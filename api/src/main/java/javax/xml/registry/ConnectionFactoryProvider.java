@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+/**
+ * Creates ConnectionFactory instances for a Jakarta XML Registries provider
+ * without reflective access to the ConnectionFactory class.
+ * <p>
+ * A provider makes itself known to ConnectionFactory.newInstance either by
+ * listing its implementation of this interface in a
+ * <code>META-INF/services/javax.xml.registry.ConnectionFactoryProvider</code>
+ * resource, or by passing an instance to ConnectionFactory.registerProvider.
+ * <p>
+ * The resource has the format read by java.util.ServiceLoader, with the
+ * optional ranking comment described in ConnectionFactory, for example
+ * <code>com.example.RegistryProvider # priority=10</code>. Only the best
+ * ranked provider is instantiated, through its public no-argument
+ * constructor; a provider that fails to load is skipped in favor of the
+ * next one. Native image builders register the no-argument constructor of
+ * the classes listed in service resources, so no further reflection
+ * configuration is needed. A registered instance needs none at all.
+ *
+ * @see ConnectionFactory#newInstance()
+ * @see ConnectionFactory#registerProvider(ConnectionFactoryProvider)
+ */
+public interface ConnectionFactoryProvider {
+
+    /**
+     * Creates a new ConnectionFactory of this provider.
+     *
+     * @return a new ConnectionFactory
+     * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+     *
+     */
+    ConnectionFactory createConnectionFactory() throws JAXRException;
+
+    /**
+     * Gets the priority of this provider. When several providers are
+     * registered, ConnectionFactory.newInstance uses the one with the highest
+     * priority. Providers listed in a service resource are ranked by the
+     * priority declared there instead, so that the others need not be
+     * instantiated.
+     *
+     * @return the priority of this provider
+     */
+    int getPriority();
+}
@@ -0,0 +1,511 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A pool of Connection objects created by one ConnectionFactory.
+ * A client gets a Connection from the pool with getConnection and gives it
+ * back by calling close on it, which returns the underlying Connection to
+ * the pool instead of closing it. This lets short lived requests reuse
+ * connections that have already been set up and authenticated.
+ * <p>
+ * The pool never holds more than <code>maxSize</code> connections, idle or
+ * in use. Callers that find the pool exhausted wait in arrival order, up
+ * to the maximum wait time. Idle connections beyond <code>minIdle</code>
+ * are closed once they have been idle longer than the maximum idle time.
+ * A connection is checked with isClosed before it is handed out, and is
+ * replaced if the provider has closed it.
+ * <p>
+ * Every connection in the pool uses the credentials set on the pool. If a
+ * client changes the credentials or the communication mode of a pooled
+ * connection, they are put back to the pool settings when it is returned.
+ * When the credentials of the pool change, the connections created with
+ * the previous credentials are closed, the borrowed ones when they are
+ * returned, so that no later borrower runs as the previous principal.
+ * Credentials that every borrower needs should therefore be set on the
+ * pool, so that its connections authenticate once rather than on every
+ * borrow.
+ *
+ * @see ConnectionFactory#createConnectionPool(int, int)
+ * @see ConnectionFactory#createPooledConnection()
+ * @see Connection
+ */
+public class ConnectionPool {
+
+    private final ConnectionFactory factory;
+    private final int minIdle;
+    private final int maxSize;
+    private final Semaphore permits;
+    private final BlockingDeque<IdleConnection> idle =
+        new LinkedBlockingDeque<IdleConnection>();
+
+    private volatile long maxWaitMillis = 30000;
+    private volatile long maxIdleMillis = 300000;
+    private volatile Set credentials;
+    private volatile boolean closed;
+
+    /** Counts the credentials changes, see setCredentials. */
+    private final AtomicInteger generation = new AtomicInteger();
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong borrowed = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong destroyed = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+
+    /**
+     * Creates a pool of connections obtained from the given factory and
+     * opens <code>minIdle</code> connections right away.
+     *
+     * @param factory the factory that creates the pooled connections
+     * @param minIdle the number of idle connections kept open
+     * @param maxSize the maximum number of connections, idle or in use
+     * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+     * @throws IllegalArgumentException if <code>minIdle</code> is negative
+     *         or greater than <code>maxSize</code>
+     */
+    public ConnectionPool(ConnectionFactory factory, int minIdle, int maxSize)
+    throws JAXRException {
+        if (factory == null) {
+            throw new NullPointerException("factory");
+        }
+        if (maxSize < 1 || minIdle < 0 || minIdle > maxSize) {
+            throw new IllegalArgumentException("Invalid pool size: minIdle=" +
+                minIdle + ", maxSize=" + maxSize);
+        }
+        this.factory = factory;
+        this.minIdle = minIdle;
+        this.maxSize = maxSize;
+        this.permits = new Semaphore(maxSize, true);
+        try {
+            for (int i = 0; i < minIdle; i++) {
+                int g = generation.get();
+                idle.offerLast(new IdleConnection(createConnection(), g));
+            }
+        } catch (JAXRException | RuntimeException x) {
+            // the pool is never returned, so nobody else can close these
+            IdleConnection entry;
+            while ((entry = idle.pollFirst()) != null) {
+                destroy(entry.connection);
+            }
+            throw x;
+        }
+    }
+
+    /**
+     * Gets a Connection from the pool, waiting up to the maximum wait time
+     * if all connections are in use.
+     *
+     * @return a Connection that returns to the pool when it is closed
+     * @throws JAXRException	If no Connection became available in time, the pool is closed,
+     *         or the Jakarta XML Registries provider encounters an internal error
+     * @see #setMaxWait(long, TimeUnit)
+     */
+    public Connection getConnection() throws JAXRException {
+        return getConnection(maxWaitMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets a Connection from the pool, waiting up to the given time if all
+     * connections are in use.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of <code>timeout</code>
+     * @return a Connection that returns to the pool when it is closed
+     * @throws JAXRException	If no Connection became available in time, the pool is closed,
+     *         or the Jakarta XML Registries provider encounters an internal error
+     */
+    public Connection getConnection(long timeout, TimeUnit unit)
+    throws JAXRException {
+        checkOpen();
+        try {
+            if (!permits.tryAcquire(timeout, unit)) {
+                timeouts.incrementAndGet();
+                throw new JAXRException("Timed out waiting for a pooled connection");
+            }
+        } catch (InterruptedException x) {
+            Thread.currentThread().interrupt();
+            throw new JAXRException("Interrupted while waiting for a pooled connection", x);
+        }
+        try {
+            checkOpen();
+            IdleConnection entry = takeIdle();
+            if (entry == null) {
+                int g = generation.get();
+                entry = new IdleConnection(createConnection(), g);
+            }
+            active.incrementAndGet();
+            borrowed.incrementAndGet();
+            return new PooledConnection(entry.connection, entry.generation);
+        } catch (JAXRException x) {
+            permits.release();
+            throw x;
+        } catch (RuntimeException x) {
+            permits.release();
+            throw x;
+        }
+    }
+
+    /**
+     * Closes the idle connections that have been idle longer than the
+     * maximum idle time, keeping at least <code>minIdle</code> of them.
+     * This also happens whenever a connection is returned to the pool;
+     * calling it periodically makes sure a quiet pool shrinks as well.
+     *
+     * @return the number of connections closed by this call
+     */
+    public int evictIdleConnections() {
+        long limit = System.currentTimeMillis() - maxIdleMillis;
+        int count = 0;
+        // The deque is used as a stack, so the oldest entries are at the end.
+        while (idle.size() > minIdle) {
+            IdleConnection entry = idle.pollLast();
+            if (entry == null) {
+                break;
+            }
+            if (entry.since > limit) {
+                idle.offerLast(entry);
+                break;
+            }
+            evicted.incrementAndGet();
+            destroy(entry.connection);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Closes the pool and all its idle connections. Connections that are
+     * in use are closed when they are returned.
+     */
+    public void close() {
+        closed = true;
+        IdleConnection entry;
+        while ((entry = idle.pollFirst()) != null) {
+            destroy(entry.connection);
+        }
+    }
+
+    /**
+     * Indicates whether this pool has been closed.
+     *
+     * @return <code>true</code> if the pool is closed; <code>false</code> otherwise
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Sets the credentials used by every connection of this pool.
+     * The idle connections are closed right away, and the connections in
+     * use are closed when they are returned.
+     *
+     * @param credentials the credentials, as for Connection.setCredentials
+     * @see Connection#setCredentials(Set)
+     */
+    public void setCredentials(Set credentials) {
+        this.credentials = credentials;
+        // A connection created before this point may use the previous
+        // credentials; its generation no longer matches, so it is closed
+        // instead of being handed out again.
+        generation.incrementAndGet();
+        IdleConnection entry;
+        while ((entry = idle.pollFirst()) != null) {
+            destroy(entry.connection);
+        }
+    }
+
+    /**
+     * Sets how long getConnection waits for a connection when all of them
+     * are in use. The default is 30 seconds.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of <code>timeout</code>
+     */
+    public void setMaxWait(long timeout, TimeUnit unit) {
+        maxWaitMillis = unit.toMillis(timeout);
+    }
+
+    /**
+     * Sets how long a connection beyond <code>minIdle</code> may stay idle
+     * before it is closed. The default is 5 minutes.
+     *
+     * @param time the maximum idle time
+     * @param unit the unit of <code>time</code>
+     */
+    public void setMaxIdleTime(long time, TimeUnit unit) {
+        maxIdleMillis = unit.toMillis(time);
+    }
+
+    /**
+     * Gets the minimum number of idle connections kept open.
+     *
+     * @return the minimum number of idle connections
+     */
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    /**
+     * Gets the maximum number of connections, idle or in use.
+     *
+     * @return the maximum size of the pool
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the number of connections currently in use.
+     *
+     * @return the number of borrowed connections not yet returned
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * Gets the number of idle connections in the pool.
+     *
+     * @return the number of idle connections
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Gets an estimate of the number of callers waiting for a connection.
+     *
+     * @return the number of waiting callers
+     */
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Gets the number of connections handed out since the pool was created.
+     *
+     * @return the number of successful getConnection calls
+     */
+    public long getBorrowCount() {
+        return borrowed.get();
+    }
+
+    /**
+     * Gets the number of connections the pool has created with its factory.
+     *
+     * @return the number of connections created
+     */
+    public long getCreatedCount() {
+        return created.get();
+    }
+
+    /**
+     * Gets the number of connections the pool has closed, for any reason.
+     *
+     * @return the number of connections closed
+     */
+    public long getDestroyedCount() {
+        return destroyed.get();
+    }
+
+    /**
+     * Gets the number of idle connections closed because they were idle
+     * for too long.
+     *
+     * @return the number of evicted connections
+     */
+    public long getEvictedCount() {
+        return evicted.get();
+    }
+
+    /**
+     * Gets the number of getConnection calls that gave up waiting.
+     *
+     * @return the number of timed out getConnection calls
+     */
+    public long getTimeoutCount() {
+        return timeouts.get();
+    }
+
+    private void checkOpen() throws JAXRException {
+        if (closed) {
+            throw new JAXRException("Connection pool is closed");
+        }
+    }
+
+    private IdleConnection takeIdle() {
+        long limit = System.currentTimeMillis() - maxIdleMillis;
+        IdleConnection entry;
+        while ((entry = idle.pollFirst()) != null) {
+            boolean usable;
+            try {
+                usable = entry.generation == generation.get() &&
+                    !entry.connection.isClosed();
+            } catch (JAXRException x) {
+                usable = false;
+            }
+            if (usable && entry.since <= limit && idle.size() >= minIdle) {
+                evicted.incrementAndGet();
+                usable = false;
+            }
+            if (usable) {
+                return entry;
+            }
+            destroy(entry.connection);
+        }
+        return null;
+    }
+
+    private Connection createConnection() throws JAXRException {
+        Connection connection = factory.createConnection();
+        created.incrementAndGet();
+        Set c = credentials;
+        if (c != null) {
+            try {
+                connection.setCredentials(c);
+            } catch (JAXRException x) {
+                destroy(connection);
+                throw x;
+            }
+        }
+        return connection;
+    }
+
+    private void release(Connection connection, int g, boolean reset) {
+        try {
+            boolean usable = !closed && g == generation.get() &&
+                !connection.isClosed();
+            if (usable && reset) {
+                connection.setSynchronous(true);
+                Set c = credentials;
+                connection.setCredentials(c != null ? c : Collections.EMPTY_SET);
+            }
+            if (usable) {
+                IdleConnection entry = new IdleConnection(connection, g);
+                idle.offerFirst(entry);
+                // close or setCredentials may have drained the pool since
+                // the checks above; whoever removes the entry closes it.
+                if ((closed || g != generation.get()) && idle.remove(entry)) {
+                    destroy(connection);
+                }
+            } else {
+                destroy(connection);
+            }
+        } catch (JAXRException x) {
+            destroy(connection);
+        } finally {
+            active.decrementAndGet();
+            permits.release();
+        }
+        evictIdleConnections();
+    }
+
+    private void destroy(Connection connection) {
+        destroyed.incrementAndGet();
+        try {
+            connection.close();
+        } catch (JAXRException x) {
+            // nothing more can be done with it
+        }
+    }
+
+    private static final class IdleConnection {
+        final Connection connection;
+        final int generation;
+        final long since;
+
+        IdleConnection(Connection connection, int generation) {
+            this.connection = connection;
+            this.generation = generation;
+            this.since = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * The Connection handed to clients. Closing it returns the underlying
+     * Connection to the pool; any later use fails.
+     */
+    private final class PooledConnection implements Connection {
+        private Connection connection;
+        private final int generation;
+        private boolean modified;
+
+        PooledConnection(Connection connection, int generation) {
+            this.connection = connection;
+            this.generation = generation;
+        }
+
+        private synchronized Connection delegate() throws JAXRException {
+            if (connection == null) {
+                throw new JAXRException("Connection is closed");
+            }
+            return connection;
+        }
+
+        public RegistryService getRegistryService() throws JAXRException {
+            return delegate().getRegistryService();
+        }
+
+        public void close() throws JAXRException {
+            Connection c;
+            boolean reset;
+            synchronized (this) {
+                c = connection;
+                reset = modified;
+                connection = null;
+            }
+            if (c != null) {
+                release(c, generation, reset);
+            }
+        }
+
+        public synchronized boolean isClosed() throws JAXRException {
+            return connection == null || connection.isClosed();
+        }
+
+        public boolean isSynchronous() throws JAXRException {
+            return delegate().isSynchronous();
+        }
+
+        public void setSynchronous(boolean sync) throws JAXRException {
+            Connection c = delegate();
+            synchronized (this) {
+                modified = true;
+            }
+            c.setSynchronous(sync);
+        }
+
+        public void setCredentials(Set credentials) throws JAXRException {
+            Connection c = delegate();
+            synchronized (this) {
+                modified = true;
+            }
+            c.setCredentials(credentials);
+        }
+
+        public Set getCredentials() throws JAXRException {
+            return delegate().getCredentials();
+        }
+    }
+}
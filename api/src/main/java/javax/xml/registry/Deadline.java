@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import java.util.concurrent.*;
+
+/**
+ * A point in time by which a registry request must complete.
+ * <p>
+ * Every Connection may have a default request timeout, given by the
+ * <code>javax.xml.registry.requestTimeout</code> connection property. A
+ * client overrides it for particular calls by running them with a
+ * Deadline:
+ * <pre>
+ * BulkResponse response = Deadline.after(2, TimeUnit.SECONDS).call(
+ *     () -&gt; bqm.findOrganizations(qualifiers, names, null, null, null, null));
+ * </pre>
+ * The deadline applies to the registry calls made by the current thread
+ * while call runs, including non-synchronous requests submitted then. A
+ * synchronous call that misses its deadline throws
+ * RequestTimeoutException; a non-synchronous one completes with status
+ * STATUS_TIMEOUT.
+ *
+ * @see RequestTimeoutException
+ * @see CancellableBulkResponse
+ */
+public final class Deadline {
+
+    /**
+     * A registry call run with a Deadline.
+     *
+     * @param <T> the result type of the call
+     */
+    public interface Call<T> {
+        /**
+         * Runs the call.
+         *
+         * @return the result of the call
+         * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+         */
+        T call() throws JAXRException;
+    }
+
+    private static final ThreadLocal<Deadline> current = new ThreadLocal<Deadline>();
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Creates a Deadline the given time from now.
+     *
+     * @param timeout the time until the deadline
+     * @param unit the unit of <code>timeout</code>
+     * @return the Deadline
+     */
+    public static Deadline after(long timeout, TimeUnit unit) {
+        return new Deadline(System.nanoTime() + unit.toNanos(timeout));
+    }
+
+    /**
+     * Gets the Deadline of the call the current thread is running, if any.
+     *
+     * @return the current Deadline, or <code>null</code> if there is none
+     */
+    public static Deadline current() {
+        return current.get();
+    }
+
+    /**
+     * Runs the given call with this Deadline as the current Deadline. The
+     * previous current Deadline, if any, is restored afterwards. A Deadline
+     * can only be made earlier this way: if the current Deadline is earlier
+     * than this one, it stays in effect.
+     *
+     * @param <T> the result type of the call
+     * @param call the call to run
+     * @return the result of the call
+     * @throws JAXRException	If the call throws it
+     */
+    public <T> T call(Call<T> call) throws JAXRException {
+        Deadline previous = current.get();
+        current.set(earliest(previous, this));
+        try {
+            return call.call();
+        } finally {
+            if (previous == null) {
+                current.remove();
+            } else {
+                current.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Gets the time left until this Deadline.
+     *
+     * @param unit the unit of the result
+     * @return the time left, which is zero or negative once the Deadline has passed
+     */
+    public long remaining(TimeUnit unit) {
+        return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Determines whether this Deadline has passed.
+     *
+     * @return <code>true</code> if the Deadline has passed; <code>false</code> otherwise
+     */
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Returns the earlier of two Deadlines, either of which may be <code>null</code>.
+     *
+     * @param d1 a Deadline, or <code>null</code>
+     * @param d2 a Deadline, or <code>null</code>
+     * @return the earlier Deadline, or <code>null</code> if both are <code>null</code>
+     */
+    public static Deadline earliest(Deadline d1, Deadline d2) {
+        if (d1 == null) {
+            return d2;
+        }
+        if (d2 == null) {
+            return d1;
+        }
+        return (d1.deadlineNanos - d2.deadlineNanos <= 0) ? d1 : d2;
+    }
+}
@@ -71,4 +71,20 @@ public class DeleteException extends RegistryException {
 		initCause(cause);
     }
 
+    /**
+     * Constructs a <code>JAXRException</code> object with the given
+     * reason and embedded Throwable, and with stack trace filling
+     * enabled or disabled.
+     *
+     * @param reason a description of what caused the exception
+     * @param cause a <code>Throwable</code> object that is to
+     *        be embedded in this <code>JAXRException</code> object,
+     *        or <code>null</code>
+     * @param writableStackTrace whether or not the stack trace should
+     *        be filled in and be writable
+     */
+    protected DeleteException(String reason, Throwable cause, boolean writableStackTrace) {
+        super(reason, cause, writableStackTrace);
+    }
+
 }
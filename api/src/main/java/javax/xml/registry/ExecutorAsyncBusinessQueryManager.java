@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import javax.xml.registry.infomodel.*;
+
+/**
+ * The AsyncBusinessQueryManager returned by default from
+ * RegistryService.getAsyncBusinessQueryManager. It runs the calls of a
+ * synchronous BusinessQueryManager on an Executor, so it needs one thread
+ * of that Executor per request in flight. Providers with a non-blocking
+ * transport are expected to return their own implementation.
+ */
+class ExecutorAsyncBusinessQueryManager implements AsyncBusinessQueryManager {
+
+    /**
+     * A BusinessQueryManager call that is run on the Executor.
+     */
+    private interface Call {
+        BulkResponse run() throws JAXRException;
+    }
+
+    private final BusinessQueryManager bqm;
+    private final Executor executor;
+
+    ExecutorAsyncBusinessQueryManager(BusinessQueryManager bqm,
+    Executor executor) {
+        if (bqm == null || executor == null) {
+            throw new NullPointerException();
+        }
+        this.bqm = bqm;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<BulkResponse> findAssociations(
+    final Collection findQualifiers, final String sourceObjectId,
+    final String targetObjectId, final Collection associationTypes) {
+        return submit(() -> bqm.findAssociations(findQualifiers,
+            sourceObjectId, targetObjectId, associationTypes));
+    }
+
+    public CompletableFuture<BulkResponse> findOrganizations(
+    final Collection findQualifiers, final Collection namePatterns,
+    final Collection classifications, final Collection specifications,
+    final Collection externalIdentifiers, final Collection externalLinks) {
+        return submit(() -> bqm.findOrganizations(findQualifiers,
+            namePatterns, classifications, specifications,
+            externalIdentifiers, externalLinks));
+    }
+
+    public CompletableFuture<BulkResponse> findServices(final Key orgKey,
+    final Collection findQualifiers, final Collection namePatterns,
+    final Collection classifications, final Collection specifications) {
+        return submit(() -> bqm.findServices(orgKey, findQualifiers,
+            namePatterns, classifications, specifications));
+    }
+
+    public CompletableFuture<BulkResponse> findServiceBindings(
+    final Key serviceKey, final Collection findQualifiers,
+    final Collection classifications, final Collection specifications) {
+        return submit(() -> bqm.findServiceBindings(serviceKey,
+            findQualifiers, classifications, specifications));
+    }
+
+    public CompletableFuture<BulkResponse> findConcepts(
+    final Collection findQualifiers, final Collection namePatterns,
+    final Collection classifications, final Collection externalIdentifiers,
+    final Collection externalLinks) {
+        return submit(() -> bqm.findConcepts(findQualifiers, namePatterns,
+            classifications, externalIdentifiers, externalLinks));
+    }
+
+    public CompletableFuture<BulkResponse> getRegistryObjects(
+    final Collection objectKeys) {
+        return submit(() -> bqm.getRegistryObjects(objectKeys));
+    }
+
+    public CompletableFuture<BulkResponse> getRegistryObjects(
+    final Collection objectKeys, final String objectType) {
+        return submit(() -> bqm.getRegistryObjects(objectKeys, objectType));
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    private CompletableFuture<BulkResponse> submit(final Call call) {
+        final CompletableFuture<BulkResponse> future =
+            new CompletableFuture<BulkResponse>();
+        try {
+            executor.execute(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(call.run());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException x) {
+            future.completeExceptionally(
+                new JAXRException("Request rejected by executor", x));
+        }
+        return future;
+    }
+}
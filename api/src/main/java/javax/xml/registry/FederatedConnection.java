@@ -20,7 +20,15 @@ package javax.xml.registry;
  * Represents a single logical connection to a federation or group of
  * registry providers. This interface is used in support of the distributed
  * query feature of the Jakarta XML Registries API.
+ * <p>
+ * A query made through a FederatedConnection is sent to all member
+ * registries in parallel, and their results are merged into one
+ * BulkResponse, in the order requested by the sort find qualifiers of the
+ * query. A member that fails or does not answer in time does not fail the
+ * query: its exception is reported by getExceptions() and the response
+ * is partial.
  *
+ * @see javax.xml.registry.spi.FederatedQueryExecutor
  *
  * @author Farrukh S. Najmi
  */
@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * An immutable set of find qualifiers, parsed once and held as a bitmask.
+ * <p>
+ * The find methods take their qualifiers as a Collection of the String
+ * constants of FindQualifier, which every call would otherwise have to
+ * scan and compare. A FindQualifierSet is such a Collection, so it can be
+ * passed to any find method, and it can be reused across calls. A
+ * provider calls {@link #of(Collection)}, which returns a FindQualifierSet
+ * as it is, and tests qualifiers with {@link #has(int)}, which is a
+ * single mask operation.
+ * <p>
+ * Combinations that contradict each other are rejected when the set is
+ * created: more than one of OR_LIKE_KEYS, OR_ALL_KEYS and AND_ALL_KEYS,
+ * both orders of the same sort, and EXACT_NAME_MATCH with SOUNDEX.
+ * <p>
+ * Qualifiers that are not constants of FindQualifier, such as
+ * registry-specific ones, are kept and iterated but have no flag. A
+ * qualifier that is <code>null</code> or not a String is rejected.
+ *
+ * @see FindQualifier
+ * @see BusinessQueryManager
+ */
+public final class FindQualifierSet extends AbstractSet<String> {
+
+    /** The flag of FindQualifier.EXACT_NAME_MATCH. */
+    public static final int EXACT_NAME_MATCH = 1;
+    /** The flag of FindQualifier.CASE_SENSITIVE_MATCH. */
+    public static final int CASE_SENSITIVE_MATCH = 1 << 1;
+    /** The flag of FindQualifier.SORT_BY_NAME_ASC. */
+    public static final int SORT_BY_NAME_ASC = 1 << 2;
+    /** The flag of FindQualifier.SORT_BY_NAME_DESC. */
+    public static final int SORT_BY_NAME_DESC = 1 << 3;
+    /** The flag of FindQualifier.SORT_BY_DATE_ASC. */
+    public static final int SORT_BY_DATE_ASC = 1 << 4;
+    /** The flag of FindQualifier.SORT_BY_DATE_DESC. */
+    public static final int SORT_BY_DATE_DESC = 1 << 5;
+    /** The flag of FindQualifier.OR_LIKE_KEYS. */
+    public static final int OR_LIKE_KEYS = 1 << 6;
+    /** The flag of FindQualifier.OR_ALL_KEYS. */
+    public static final int OR_ALL_KEYS = 1 << 7;
+    /** The flag of FindQualifier.COMBINE_CLASSIFICATIONS. */
+    public static final int COMBINE_CLASSIFICATIONS = 1 << 8;
+    /** The flag of FindQualifier.SERVICE_SUBSET. */
+    public static final int SERVICE_SUBSET = 1 << 9;
+    /** The flag of FindQualifier.AND_ALL_KEYS. */
+    public static final int AND_ALL_KEYS = 1 << 10;
+    /** The flag of FindQualifier.SOUNDEX. */
+    public static final int SOUNDEX = 1 << 11;
+
+    /** The flags of the sort qualifiers. */
+    public static final int SORT_FLAGS = SORT_BY_NAME_ASC | SORT_BY_NAME_DESC |
+        SORT_BY_DATE_ASC | SORT_BY_DATE_DESC;
+
+    private static final String[] NAMES = {
+        FindQualifier.EXACT_NAME_MATCH,
+        FindQualifier.CASE_SENSITIVE_MATCH,
+        FindQualifier.SORT_BY_NAME_ASC,
+        FindQualifier.SORT_BY_NAME_DESC,
+        FindQualifier.SORT_BY_DATE_ASC,
+        FindQualifier.SORT_BY_DATE_DESC,
+        FindQualifier.OR_LIKE_KEYS,
+        FindQualifier.OR_ALL_KEYS,
+        FindQualifier.COMBINE_CLASSIFICATIONS,
+        FindQualifier.SERVICE_SUBSET,
+        FindQualifier.AND_ALL_KEYS,
+        FindQualifier.SOUNDEX
+    };
+
+    private static final int NAME_SORT = SORT_BY_NAME_ASC | SORT_BY_NAME_DESC;
+    private static final int DATE_SORT = SORT_BY_DATE_ASC | SORT_BY_DATE_DESC;
+
+    /**
+     * The sets without other qualifiers, by flags and sort precedence, so
+     * that parsing a common Collection returns a shared instance.
+     */
+    private static final AtomicReferenceArray<FindQualifierSet> shared =
+        new AtomicReferenceArray<FindQualifierSet>(2 << NAMES.length);
+
+    /** The set with no qualifiers. */
+    public static final FindQualifierSet EMPTY = new FindQualifierSet(0, false, null);
+
+    private final int flags;
+    private final boolean dateSortFirst;
+    private final String[] others;
+
+    /** The qualifiers in iteration order. */
+    private final List<String> qualifiers;
+
+    private FindQualifierSet(int flags, boolean dateSortFirst, String[] others) {
+        this.flags = flags;
+        this.dateSortFirst = dateSortFirst;
+        this.others = others;
+        this.qualifiers = Collections.unmodifiableList(Arrays.asList(names()));
+    }
+
+    /**
+     * Gets the FindQualifierSet of a Collection of find qualifiers. If the
+     * Collection is already a FindQualifierSet, it is returned as is.
+     *
+     * @param findQualifiers a Collection of find qualifiers, or <code>null</code>
+     * @return the FindQualifierSet
+     * @throws InvalidRequestException If the qualifiers contradict each other,
+     *         or one of them is <code>null</code> or not a String
+     */
+    public static FindQualifierSet of(Collection findQualifiers)
+    throws InvalidRequestException {
+        if (findQualifiers == null || findQualifiers.isEmpty()) {
+            return EMPTY;
+        }
+        if (findQualifiers instanceof FindQualifierSet) {
+            return (FindQualifierSet) findQualifiers;
+        }
+        int flags = 0;
+        boolean dateSortFirst = false;
+        List<String> others = null;
+        for (Object o : findQualifiers) {
+            if (!(o instanceof String)) {
+                throw new InvalidRequestException(
+                    "Find qualifier is null or not a String: " + o);
+            }
+            String qualifier = (String) o;
+            int flag = flag(qualifier);
+            if (flag == 0) {
+                if (others == null) {
+                    others = new ArrayList<String>();
+                }
+                if (!others.contains(qualifier)) {
+                    others.add(qualifier);
+                }
+            } else {
+                if ((flag & DATE_SORT) != 0 && (flags & NAME_SORT) == 0) {
+                    dateSortFirst = true;
+                }
+                flags |= flag;
+            }
+        }
+        return create(flags, dateSortFirst,
+            (others != null) ? others.toArray(new String[others.size()]) : null);
+    }
+
+    /**
+     * Gets the FindQualifierSet of the given find qualifiers.
+     *
+     * @param findQualifiers find qualifiers, as constants of FindQualifier
+     * @return the FindQualifierSet
+     * @throws InvalidRequestException If the qualifiers contradict each other,
+     *         or one of them is <code>null</code>
+     */
+    public static FindQualifierSet of(String... findQualifiers)
+    throws InvalidRequestException {
+        return of(Arrays.asList(findQualifiers));
+    }
+
+    /**
+     * Determines whether all the given qualifiers are in this set.
+     *
+     * @param flags the flags of the qualifiers, such as
+     *        <code>EXACT_NAME_MATCH | CASE_SENSITIVE_MATCH</code>
+     * @return <code>true</code> if all the qualifiers are in this set
+     */
+    public boolean has(int flags) {
+        return (this.flags & flags) == flags;
+    }
+
+    /**
+     * Determines whether any of the given qualifiers is in this set.
+     *
+     * @param flags the flags of the qualifiers
+     * @return <code>true</code> if at least one of the qualifiers is in this set
+     */
+    public boolean hasAny(int flags) {
+        return (this.flags & flags) != 0;
+    }
+
+    /**
+     * Gets the flags of the qualifiers in this set.
+     *
+     * @return the flags
+     */
+    public int getFlags() {
+        return flags;
+    }
+
+    /**
+     * Determines whether results are sorted by date before name, which is
+     * the case if a date sort qualifier came before the name sort
+     * qualifier in the Collection this set was created from.
+     *
+     * @return <code>true</code> if the date sort takes precedence
+     */
+    public boolean isDateSortFirst() {
+        return dateSortFirst && (flags & DATE_SORT) != 0;
+    }
+
+    public boolean contains(Object o) {
+        if (!(o instanceof String)) {
+            return false;
+        }
+        int flag = flag((String) o);
+        if (flag != 0) {
+            return (flags & flag) != 0;
+        }
+        if (others != null) {
+            for (String other : others) {
+                if (other.equals(o)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return qualifiers.size();
+    }
+
+    /**
+     * Iterates the qualifiers in the order of the constants of
+     * FindQualifier, except that the date sort comes before the name sort
+     * if it takes precedence, followed by the other qualifiers.
+     */
+    public Iterator<String> iterator() {
+        return qualifiers.iterator();
+    }
+
+    /**
+     * Lists the qualifiers in iteration order, once, when the set is
+     * created.
+     */
+    private String[] names() {
+        int count = Integer.bitCount(flags);
+        String[] names = new String[count +
+            ((others != null) ? others.length : 0)];
+        int n = 0;
+        int bits = flags;
+        if (isDateSortFirst() && (flags & NAME_SORT) != 0) {
+            int nameSort = flags & NAME_SORT;
+            bits &= ~nameSort;
+            for (int i = 0; i < NAMES.length; i++) {
+                if ((bits & (1 << i)) != 0) {
+                    names[n++] = NAMES[i];
+                }
+                if ((1 << i) == SORT_BY_DATE_DESC) {
+                    names[n++] = NAMES[Integer.numberOfTrailingZeros(nameSort)];
+                }
+            }
+        } else {
+            for (int i = 0; i < NAMES.length; i++) {
+                if ((bits & (1 << i)) != 0) {
+                    names[n++] = NAMES[i];
+                }
+            }
+        }
+        if (others != null) {
+            System.arraycopy(others, 0, names, count, others.length);
+        }
+        return names;
+    }
+
+    private static FindQualifierSet create(int flags, boolean dateSortFirst,
+    String[] others) throws InvalidRequestException {
+        check(flags, OR_LIKE_KEYS | OR_ALL_KEYS | AND_ALL_KEYS);
+        check(flags, NAME_SORT);
+        check(flags, DATE_SORT);
+        check(flags, EXACT_NAME_MATCH | SOUNDEX);
+        if ((flags & NAME_SORT) == 0 || (flags & DATE_SORT) == 0) {
+            dateSortFirst = false;
+        }
+        if (others != null) {
+            return new FindQualifierSet(flags, dateSortFirst, others);
+        }
+        int index = (flags << 1) | (dateSortFirst ? 1 : 0);
+        FindQualifierSet set = shared.get(index);
+        if (set == null) {
+            set = new FindQualifierSet(flags, dateSortFirst, null);
+            if (!shared.compareAndSet(index, null, set)) {
+                set = shared.get(index);
+            }
+        }
+        return set;
+    }
+
+    /**
+     * Rejects flags with more than one of the given exclusive qualifiers.
+     */
+    private static void check(int flags, int exclusive)
+    throws InvalidRequestException {
+        int set = flags & exclusive;
+        if (Integer.bitCount(set) > 1) {
+            StringBuilder names = new StringBuilder();
+            for (int i = 0; i < NAMES.length; i++) {
+                if ((set & (1 << i)) != 0) {
+                    if (names.length() > 0) {
+                        names.append(", ");
+                    }
+                    names.append(NAMES[i]);
+                }
+            }
+            throw new InvalidRequestException(
+                "Conflicting find qualifiers: " + names);
+        }
+    }
+
+    private static int flag(String qualifier) {
+        switch (qualifier) {
+            case FindQualifier.EXACT_NAME_MATCH:
+                return EXACT_NAME_MATCH;
+            case FindQualifier.CASE_SENSITIVE_MATCH:
+                return CASE_SENSITIVE_MATCH;
+            case FindQualifier.SORT_BY_NAME_ASC:
+                return SORT_BY_NAME_ASC;
+            case FindQualifier.SORT_BY_NAME_DESC:
+                return SORT_BY_NAME_DESC;
+            case FindQualifier.SORT_BY_DATE_ASC:
+                return SORT_BY_DATE_ASC;
+            case FindQualifier.SORT_BY_DATE_DESC:
+                return SORT_BY_DATE_DESC;
+            case FindQualifier.OR_LIKE_KEYS:
+                return OR_LIKE_KEYS;
+            case FindQualifier.OR_ALL_KEYS:
+                return OR_ALL_KEYS;
+            case FindQualifier.COMBINE_CLASSIFICATIONS:
+                return COMBINE_CLASSIFICATIONS;
+            case FindQualifier.SERVICE_SUBSET:
+                return SERVICE_SUBSET;
+            case FindQualifier.AND_ALL_KEYS:
+                return AND_ALL_KEYS;
+            case FindQualifier.SOUNDEX:
+                return SOUNDEX;
+            default:
+                return 0;
+        }
+    }
+}
@@ -79,6 +79,31 @@ public class JAXRException extends Exception implements JAXRResponse  {
         initCause(cause);
     }
     
+    /**
+     * Constructs a <code>JAXRException</code> object with the given
+     * reason and embedded Throwable, and with stack trace filling
+     * enabled or disabled.
+     * <P>
+     * A provider that reports one exception per object of a bulk
+     * operation can disable the stack trace, which is costly to capture
+     * and of no use for such exceptions, and share a single cause among
+     * all of them.
+     *
+     * @param reason a description of what caused the exception
+     * @param cause a <code>Throwable</code> object that is to
+     *        be embedded in this <code>JAXRException</code> object,
+     *        or <code>null</code>
+     * @param writableStackTrace whether or not the stack trace should
+     *        be filled in and be writable
+     */
+    protected JAXRException(String reason, Throwable cause, boolean writableStackTrace) {
+        super(reason, null, true, writableStackTrace);
+        this.cause = null;
+        if (cause != null) {
+            initCause(cause);
+        }
+    }
+
     /**
      * Returns the detail message for this <code>JAXRException</code>
      * object.
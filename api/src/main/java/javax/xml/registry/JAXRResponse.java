@@ -44,6 +44,13 @@ public interface JAXRResponse {
 	 */
 	public static final int STATUS_UNAVAILABLE=3;
 
+	/**
+	 * Status indicating that the request did not complete before its deadline.
+	 *
+	 * @see Deadline
+	 */
+	public static final int STATUS_TIMEOUT=4;
+
 	/**
 	 * Returns the unique id for the request that generated this response.
 	 *
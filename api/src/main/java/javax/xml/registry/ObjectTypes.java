@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import java.util.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * A table of the information model interfaces that can be created with
+ * LifeCycleManager.createObject, indexed by the interface name constants
+ * defined in LifeCycleManager.
+ * <p>
+ * Each interface name has a fixed index between 0 and {@link #COUNT} - 1,
+ * so a provider can implement createObject with an array of object
+ * factories instead of turning the name into a class by reflection:
+ * <pre>
+ * int i = ObjectTypes.indexOf(interfaceName);
+ * if (i &lt; 0) {
+ *     throw new InvalidRequestException(interfaceName);
+ * }
+ * return factories[i].create();
+ * </pre>
+ *
+ * @see LifeCycleManager#createObject(String)
+ */
+public final class ObjectTypes {
+
+    private static final String[] NAMES = {
+        LifeCycleManager.ASSOCIATION,
+        LifeCycleManager.AUDITABLE_EVENT,
+        LifeCycleManager.CLASSIFICATION,
+        LifeCycleManager.CLASSIFICATION_SCHEME,
+        LifeCycleManager.CONCEPT,
+        LifeCycleManager.EMAIL_ADDRESS,
+        LifeCycleManager.EXTERNAL_IDENTIFIER,
+        LifeCycleManager.EXTERNAL_LINK,
+        LifeCycleManager.EXTRINSIC_OBJECT,
+        LifeCycleManager.INTERNATIONAL_STRING,
+        LifeCycleManager.KEY,
+        LifeCycleManager.LOCALIZED_STRING,
+        LifeCycleManager.ORGANIZATION,
+        LifeCycleManager.PERSON_NAME,
+        LifeCycleManager.POSTAL_ADDRESS,
+        LifeCycleManager.REGISTRY_ENTRY,
+        LifeCycleManager.REGISTRY_PACKAGE,
+        LifeCycleManager.SERVICE,
+        LifeCycleManager.SERVICE_BINDING,
+        LifeCycleManager.SLOT,
+        LifeCycleManager.SPECIFICATION_LINK,
+        LifeCycleManager.TELEPHONE_NUMBER,
+        LifeCycleManager.USER,
+        LifeCycleManager.VERSIONABLE
+    };
+
+    private static final Class<?>[] INTERFACES = {
+        Association.class,
+        AuditableEvent.class,
+        Classification.class,
+        ClassificationScheme.class,
+        Concept.class,
+        EmailAddress.class,
+        ExternalIdentifier.class,
+        ExternalLink.class,
+        ExtrinsicObject.class,
+        InternationalString.class,
+        Key.class,
+        LocalizedString.class,
+        Organization.class,
+        PersonName.class,
+        PostalAddress.class,
+        RegistryEntry.class,
+        RegistryPackage.class,
+        Service.class,
+        ServiceBinding.class,
+        Slot.class,
+        SpecificationLink.class,
+        TelephoneNumber.class,
+        User.class,
+        Versionable.class
+    };
+
+    /** The number of interfaces in the table. */
+    public static final int COUNT = NAMES.length;
+
+    private static final Map<String, Integer> INDEX = new HashMap<String, Integer>();
+
+    static {
+        for (int i = 0; i < COUNT; i++) {
+            INDEX.put(NAMES[i], Integer.valueOf(i));
+        }
+    }
+
+    private ObjectTypes() {
+    }
+
+    /**
+     * Gets the index of an information model interface.
+     *
+     * @param interfaceName the unqualified name of an interface, as defined by the LifeCycleManager constants
+     * @return the index of the interface, or -1 if it is not an interface that createObject can create
+     */
+    public static int indexOf(String interfaceName) {
+        Integer i = INDEX.get(interfaceName);
+        return (i != null) ? i.intValue() : -1;
+    }
+
+    /**
+     * Gets the unqualified name of the interface at the given index.
+     *
+     * @param index the index of the interface
+     * @return the interface name, equal to one of the LifeCycleManager constants
+     * @throws IndexOutOfBoundsException if <code>index</code> is not between 0 and COUNT - 1
+     */
+    public static String getName(int index) {
+        return NAMES[index];
+    }
+
+    /**
+     * Gets the information model interface at the given index.
+     *
+     * @param index the index of the interface
+     * @return the interface in the javax.xml.registry.infomodel package
+     * @throws IndexOutOfBoundsException if <code>index</code> is not between 0 and COUNT - 1
+     */
+    public static Class<?> getInterface(int index) {
+        return INTERFACES[index];
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+/**
+ * A BulkResponse that holds one page of a large result set and can fetch
+ * the following pages on demand. getCollection returns the objects of this
+ * page only, and isPartialResponse returns <code>true</code> as long as more
+ * pages follow.
+ * <p>
+ * A client reads the whole result set one page at a time, so that no more
+ * than one page needs to be in memory:
+ * <pre>
+ * BulkResponse response = bqm.findOrganizations(...);
+ * if (response instanceof PagedBulkResponse) {
+ *     for (PagedBulkResponse page = (PagedBulkResponse) response; page != null; page = page.nextPage()) {
+ *         process(page.getCollection());
+ *     }
+ * }
+ * </pre>
+ * The page size is set with the <code>javax.xml.registry.pageSize</code>
+ * connection property. A provider that pages its results returns a
+ * PagedBulkResponse from its find and getRegistryObjects methods.
+ *
+ * @see QueryManager#getNextPage(String)
+ */
+public interface PagedBulkResponse extends BulkResponse {
+
+	/**
+	 * Gets the maximum number of objects in a page.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @return the page size
+	 * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+	 *
+	 */
+	int getPageSize() throws JAXRException;
+
+	/**
+	 * Gets the token that identifies the page following this one. The token
+	 * can be passed to QueryManager.getNextPage to continue the query later,
+	 * for example in another request of the client.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @return the continuation token, or <code>null</code> if this is the last page
+	 * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+	 *
+	 */
+	String getContinuationToken() throws JAXRException;
+
+	/**
+	 * Fetches the page following this one.
+	 *
+	 * <DL><DT><B>Capability Level: 0 </B></DL>
+	 *
+	 * @return the next page, or <code>null</code> if this is the last page
+	 * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+	 *
+	 */
+	PagedBulkResponse nextPage() throws JAXRException;
+}
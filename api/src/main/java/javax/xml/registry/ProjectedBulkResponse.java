@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import java.util.*;
+
+/**
+ * A BulkResponse whose objects have been replaced by their summaries.
+ * Everything else is taken from the original response.
+ *
+ * @see Projection#summarize(BulkResponse)
+ */
+class ProjectedBulkResponse implements BulkResponse {
+
+    private final String requestId;
+    private final int status;
+    private final Collection exceptions;
+    private final boolean partial;
+    private final Collection summaries;
+
+    ProjectedBulkResponse(BulkResponse response, Collection summaries)
+    throws JAXRException {
+        this.requestId = response.getRequestId();
+        this.status = response.getStatus();
+        this.exceptions = response.getExceptions();
+        this.partial = response.isPartialResponse();
+        this.summaries = summaries;
+    }
+
+    public Collection getCollection() {
+        return summaries;
+    }
+
+    public Collection getExceptions() {
+        return exceptions;
+    }
+
+    public boolean isPartialResponse() {
+        return partial;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public boolean isAvailable() {
+        return true;
+    }
+
+    /**
+     * The summary of one page of a PagedBulkResponse.
+     */
+    static final class Paged extends ProjectedBulkResponse
+    implements PagedBulkResponse {
+
+        private final Projection projection;
+        private final PagedBulkResponse page;
+        private final int pageSize;
+        private final String continuationToken;
+
+        Paged(Projection projection, PagedBulkResponse page,
+        Collection summaries) throws JAXRException {
+            super(page, summaries);
+            this.projection = projection;
+            this.page = page;
+            this.pageSize = page.getPageSize();
+            this.continuationToken = page.getContinuationToken();
+        }
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public String getContinuationToken() {
+            return continuationToken;
+        }
+
+        public PagedBulkResponse nextPage() throws JAXRException {
+            PagedBulkResponse next = page.nextPage();
+            return (next == null) ? null :
+                (PagedBulkResponse) projection.summarize(next);
+        }
+    }
+}
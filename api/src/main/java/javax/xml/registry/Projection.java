@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import java.util.*;
+
+import javax.xml.registry.infomodel.*;
+
+/**
+ * The subset of attributes a client wants from the objects returned by a
+ * query. A query with a Projection returns RegistryObjectSummary objects
+ * that carry only those attributes, instead of complete RegistryObjects
+ * with their addresses, contacts, classifications and links, so that
+ * fewer bytes are transferred and fewer objects are built per result.
+ * <p>
+ * The id of each object is always included.
+ *
+ * @see RegistryObjectSummary
+ * @see BusinessQueryManager#findOrganizations(Projection, Collection, Collection, Collection, Collection, Collection, Collection)
+ * @see QueryManager#getRegistryObjectSummaries(Projection, String)
+ */
+public final class Projection {
+
+    /**
+     * An attribute of a RegistryObject that can be projected.
+     */
+    public enum Attribute {
+        /** The name, as returned by getName().getValue(). */
+        NAME,
+        /** The description, as returned by getDescription().getValue(). */
+        DESCRIPTION,
+        /** The object type, as returned by getObjectType().getValue(). */
+        OBJECT_TYPE
+    }
+
+    /** A Projection of the id only. */
+    public static final Projection KEY = new Projection(EnumSet.noneOf(Attribute.class));
+
+    /** A Projection of the id and the name, as needed to let a user pick an object. */
+    public static final Projection KEY_AND_NAME = new Projection(EnumSet.of(Attribute.NAME));
+
+    private final Set<Attribute> attributes;
+
+    private Projection(EnumSet<Attribute> attributes) {
+        this.attributes = Collections.unmodifiableSet(attributes);
+    }
+
+    /**
+     * Creates a Projection of the id and the given attributes.
+     *
+     * @param attributes the attributes to include besides the id
+     * @return the Projection
+     */
+    public static Projection of(Attribute... attributes) {
+        EnumSet<Attribute> set = EnumSet.noneOf(Attribute.class);
+        Collections.addAll(set, attributes);
+        return new Projection(set);
+    }
+
+    /**
+     * Determines whether this Projection includes the given attribute.
+     *
+     * @param attribute an attribute
+     * @return <code>true</code> if the attribute is included; <code>false</code> otherwise
+     */
+    public boolean includes(Attribute attribute) {
+        return attributes.contains(attribute);
+    }
+
+    /**
+     * Gets the attributes included besides the id.
+     *
+     * @return an unmodifiable Set of attributes
+     */
+    public Set<Attribute> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Creates the summary of a complete RegistryObject for this Projection.
+     * This is how a provider that cannot project in the registry builds
+     * its results.
+     *
+     * @param registryObject the complete object
+     * @return the summary of the object
+     * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+     */
+    public RegistryObjectSummary summarize(RegistryObject registryObject)
+    throws JAXRException {
+        Key key = registryObject.getKey();
+        String name = null;
+        String description = null;
+        String objectType = null;
+        if (includes(Attribute.NAME) && registryObject.getName() != null) {
+            name = registryObject.getName().getValue();
+        }
+        if (includes(Attribute.DESCRIPTION) && registryObject.getDescription() != null) {
+            description = registryObject.getDescription().getValue();
+        }
+        if (includes(Attribute.OBJECT_TYPE) && registryObject.getObjectType() != null) {
+            objectType = registryObject.getObjectType().getValue();
+        }
+        return new RegistryObjectSummary((key != null) ? key.getId() : null,
+            name, description, objectType);
+    }
+
+    /**
+     * Replaces the objects of a BulkResponse by their summaries for this
+     * Projection. The status, exceptions and partial response flag of the
+     * response are kept. The summary of a PagedBulkResponse is itself a
+     * PagedBulkResponse, with the same page size and continuation token,
+     * whose following pages are summarized as they are fetched. A response
+     * without a collection, such as a failed one, gives an empty one.
+     *
+     * @param response a response containing RegistryObjects
+     * @return a response containing RegistryObjectSummary objects
+     * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+     */
+    public BulkResponse summarize(BulkResponse response) throws JAXRException {
+        Collection objects = response.getCollection();
+        if (objects == null) {
+            objects = Collections.EMPTY_LIST;
+        }
+        List<RegistryObjectSummary> summaries =
+            new ArrayList<RegistryObjectSummary>(objects.size());
+        for (Object o : objects) {
+            summaries.add(summarize((RegistryObject) o));
+        }
+        if (response instanceof PagedBulkResponse) {
+            return new ProjectedBulkResponse.Paged(this,
+                (PagedBulkResponse) response, summaries);
+        }
+        return new ProjectedBulkResponse(response, summaries);
+    }
+
+    public boolean equals(Object o) {
+        return (o instanceof Projection) &&
+            attributes.equals(((Projection) o).attributes);
+    }
+
+    public int hashCode() {
+        return attributes.hashCode();
+    }
+
+    public String toString() {
+        return "Projection" + attributes;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import java.lang.ref.*;
+import java.lang.reflect.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the provider class that <code>ConnectionFactory.find</code>
+ * resolved for a given context class loader, so that repeated calls to
+ * <code>ConnectionFactory.newInstance</code> do not have to read
+ * <code>jaxr.properties</code> or scan <code>META-INF/services</code> again.
+ * <P>
+ * What is remembered is either the public no-argument constructor of a
+ * provider class, or a <code>ConnectionFactoryProvider</code> found with
+ * <code>ServiceLoader</code>. Lookups take no lock. Class loaders are held
+ * weakly, and so is the provider class, since it normally keeps its own
+ * defining loader reachable. The constructor is attached to the provider
+ * class with a <code>ClassValue</code>, so it lives exactly as long as the
+ * class does. A <code>ConnectionFactoryProvider</code> is held softly: a
+ * strong reference from the entry would keep its class loader, and so the
+ * key, reachable for as long as the map exists, while a weak one would
+ * lose the provider right after every lookup. A soft reference keeps the
+ * loader reachable until memory runs low, and then lets it be unloaded.
+ * An entry is only reused while the value of the factory
+ * system property is unchanged.
+ * <P>
+ * This class is package private; it is an implementation detail of
+ * <code>ConnectionFactory</code>.
+ */
+final class ProviderCache {
+
+    private static final ConcurrentHashMap<Object, Entry> entries =
+        new ConcurrentHashMap<Object, Entry>();
+
+    /** The keys of the class loaders that were collected. */
+    private static final ReferenceQueue<ClassLoader> collected =
+        new ReferenceQueue<ClassLoader>();
+
+    /** The public no-argument constructor of each provider class. */
+    private static final ClassValue<Constructor<?>> constructors =
+        new ClassValue<Constructor<?>>() {
+            protected Constructor<?> computeValue(Class<?> type) {
+                try {
+                    return type.getConstructor();
+                } catch (NoSuchMethodException x) {
+                    return null;
+                }
+            }
+        };
+
+    /** Entry used when there is no context class loader. */
+    private static volatile Entry bootstrapEntry;
+
+    private ProviderCache() {
+    }
+
+    /**
+     * Returns the cached provider for the given factory and class loader,
+     * or <code>null</code> if nothing usable is cached.
+     *
+     * @param classLoader the context class loader, may be <code>null</code>
+     * @param factoryId the name of the factory being looked up
+     * @param systemProperty the current value of the factory system property
+     * @return the public no-argument constructor of the provider class,
+     *         a <code>ConnectionFactoryProvider</code>, or <code>null</code>
+     */
+    static Object get(ClassLoader classLoader,
+    String factoryId, String systemProperty) {
+        Entry entry = (classLoader == null) ?
+            bootstrapEntry : entries.get(new LookupKey(classLoader));
+        if (entry == null || !entry.matches(factoryId, systemProperty)) {
+            return null;
+        }
+        return entry.getProvider();
+    }
+
+    /**
+     * Remembers the provider resolved for the given factory and class
+     * loader, either a constructor or a <code>ConnectionFactoryProvider</code>.
+     */
+    static void put(ClassLoader classLoader, String factoryId,
+    String systemProperty, Object provider) {
+        Entry entry = new Entry(factoryId, systemProperty, provider);
+        if (classLoader == null) {
+            bootstrapEntry = entry;
+        } else {
+            expunge();
+            entries.put(new LoaderKey(classLoader, collected), entry);
+        }
+    }
+
+    /**
+     * Forgets every provider resolved so far.
+     */
+    static void clear() {
+        entries.clear();
+        bootstrapEntry = null;
+        expunge();
+    }
+
+    private static void expunge() {
+        Reference<? extends ClassLoader> key;
+        while ((key = collected.poll()) != null) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * The key of a class loader in the map, which does not keep it
+     * reachable. Keys compare class loaders by identity.
+     */
+    private static final class LoaderKey extends WeakReference<ClassLoader> {
+        private final int hash;
+
+        LoaderKey(ClassLoader classLoader, ReferenceQueue<ClassLoader> queue) {
+            super(classLoader, queue);
+            this.hash = System.identityHashCode(classLoader);
+        }
+
+        public int hashCode() {
+            return hash;
+        }
+
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            ClassLoader classLoader = get();
+            if (classLoader == null) {
+                return false;
+            }
+            if (o instanceof LookupKey) {
+                return ((LookupKey) o).classLoader == classLoader;
+            }
+            return o instanceof LoaderKey &&
+                ((LoaderKey) o).get() == classLoader;
+        }
+    }
+
+    /**
+     * The key used to look a class loader up, which is only held for the
+     * duration of the lookup.
+     */
+    private static final class LookupKey {
+        private final ClassLoader classLoader;
+
+        LookupKey(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+        }
+
+        public int hashCode() {
+            return System.identityHashCode(classLoader);
+        }
+
+        public boolean equals(Object o) {
+            if (o instanceof LoaderKey) {
+                return ((LoaderKey) o).get() == classLoader;
+            }
+            return o instanceof LookupKey &&
+                ((LookupKey) o).classLoader == classLoader;
+        }
+    }
+
+    private static final class Entry {
+        private final String factoryId;
+        private final String systemProperty;
+        private final WeakReference<Class<?>> providerClass;
+        private final SoftReference<Object> provider;
+
+        Entry(String factoryId, String systemProperty, Object provider) {
+            this.factoryId = factoryId;
+            this.systemProperty = systemProperty;
+            if (provider instanceof Constructor) {
+                this.providerClass = new WeakReference<Class<?>>(
+                    ((Constructor<?>) provider).getDeclaringClass());
+                this.provider = null;
+            } else {
+                this.providerClass = null;
+                this.provider = new SoftReference<Object>(provider);
+            }
+        }
+
+        boolean matches(String factoryId, String systemProperty) {
+            return this.factoryId.equals(factoryId) &&
+                (this.systemProperty == null ?
+                    systemProperty == null :
+                    this.systemProperty.equals(systemProperty));
+        }
+
+        Object getProvider() {
+            if (provider != null) {
+                return provider.get();
+            }
+            Class<?> spiClass = providerClass.get();
+            return (spiClass != null) ? constructors.get(spiClass) : null;
+        }
+    }
+}
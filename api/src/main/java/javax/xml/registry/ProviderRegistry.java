@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import java.io.*;
+import java.net.URL;
+import java.util.*;
+
+/**
+ * Lists the <code>ConnectionFactory</code> providers declared in every
+ * <code>META-INF/services/javax.xml.registry.ConnectionFactoryClass</code>
+ * resource visible to a class loader, and orders them by preference.
+ * <P>
+ * Each non-empty line of such a resource names one provider class. A line
+ * may end with a comment that declares attributes used for ranking, for
+ * example:
+ * <pre>
+ *    com.example.registry.UDDIConnectionFactory # priority=10, capabilityLevel=0
+ *    com.example.registry.EbXMLConnectionFactory # priority=10, capabilityLevel=1
+ * </pre>
+ * Providers are ranked by descending <code>priority</code>, then by
+ * descending <code>capabilityLevel</code> (the level the provider reports
+ * through <code>CapabilityProfile.getCapabilityLevel</code>), then in the
+ * order they were found. Both attributes default to 0. Because the
+ * attributes live in the comment, the file stays readable by
+ * <code>java.util.ServiceLoader</code>.
+ * <P>
+ * Listing the candidates only reads the resources; no provider class is
+ * loaded or instantiated until a caller picks one.
+ * <P>
+ * This class is package private; it is an implementation detail of
+ * <code>ConnectionFactory</code>.
+ */
+final class ProviderRegistry {
+
+    private ProviderRegistry() {
+    }
+
+    /**
+     * Returns the providers declared for the given factory, best first.
+     *
+     * @param factoryId the name of the factory, which is also the name of
+     *        the service resource
+     * @param classLoader the class loader to search, <code>null</code> for
+     *        the system class loader
+     * @return the candidates, best first; may be empty but not null
+     */
+    static List<Candidate> getCandidates(String factoryId,
+    ClassLoader classLoader) {
+        String serviceId = "META-INF/services/" + factoryId;
+        List<Candidate> candidates = new ArrayList<Candidate>();
+        Set<String> seen = new HashSet<String>();
+        Enumeration<URL> resources;
+        try {
+            if (classLoader == null) {
+                resources = ClassLoader.getSystemResources(serviceId);
+            } else {
+                resources = classLoader.getResources(serviceId);
+            }
+        } catch (IOException ex) {
+            return candidates;
+        }
+        while (resources.hasMoreElements()) {
+            URL url = resources.nextElement();
+            try {
+                read(url, candidates, seen);
+            } catch (IOException ex) {
+                // An unreadable resource only hides its own providers.
+            }
+        }
+        Collections.sort(candidates);
+        return candidates;
+    }
+
+    private static void read(URL url, List<Candidate> candidates,
+    Set<String> seen) throws IOException {
+        BufferedReader rd = new BufferedReader(
+            new InputStreamReader(url.openStream(), "UTF-8"));
+        try {
+            String line;
+            while ((line = rd.readLine()) != null) {
+                String attributes = "";
+                int hash = line.indexOf('#');
+                if (hash >= 0) {
+                    attributes = line.substring(hash + 1);
+                    line = line.substring(0, hash);
+                }
+                String className = line.trim();
+                if (className.length() == 0 || !seen.add(className)) {
+                    continue;
+                }
+                candidates.add(new Candidate(className,
+                    intAttribute(attributes, "priority"),
+                    intAttribute(attributes, "capabilityLevel"),
+                    candidates.size()));
+            }
+        } finally {
+            rd.close();
+        }
+    }
+
+    private static int intAttribute(String attributes, String name) {
+        StringTokenizer st = new StringTokenizer(attributes, ", \t");
+        while (st.hasMoreTokens()) {
+            String token = st.nextToken();
+            int eq = token.indexOf('=');
+            if (eq > 0 && token.substring(0, eq).equals(name)) {
+                try {
+                    return Integer.parseInt(token.substring(eq + 1));
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * A provider declared in a service resource. Holds only the class name
+     * and the declared ranking attributes.
+     */
+    static final class Candidate implements Comparable<Candidate> {
+        private final String className;
+        private final int priority;
+        private final int capabilityLevel;
+        private final int order;
+
+        Candidate(String className, int priority, int capabilityLevel,
+        int order) {
+            this.className = className;
+            this.priority = priority;
+            this.capabilityLevel = capabilityLevel;
+            this.order = order;
+        }
+
+        String getClassName() {
+            return className;
+        }
+
+        public int compareTo(Candidate other) {
+            if (priority != other.priority) {
+                return priority > other.priority ? -1 : 1;
+            }
+            if (capabilityLevel != other.capabilityLevel) {
+                return capabilityLevel > other.capabilityLevel ? -1 : 1;
+            }
+            return order < other.order ? -1 : (order == other.order ? 0 : 1);
+        }
+
+        public String toString() {
+            return className + " (priority=" + priority +
+                ", capabilityLevel=" + capabilityLevel + ")";
+        }
+    }
+}
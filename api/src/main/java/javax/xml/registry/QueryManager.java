@@ -110,6 +110,94 @@ public interface QueryManager {
     public BulkResponse getRegistryObjects(String objectType)  throws JAXRException;
 
 
+    /**
+     * Gets the specified RegistryObjects as summaries that carry only the
+     * attributes of the given Projection.
+     * The default implementation gets the complete objects and summarizes
+     * them; providers should override it to request only the projected
+     * attributes from the registry.
+     *
+     * <DL><DT><B>Capability Level: 1 </B></DL>
+     *
+     * @param projection	the attributes to return
+     * @param objectKeys	a Collection of Key objects for the desired objects
+     * @return BulkResponse containing a Collection of RegistryObjectSummary objects
+     * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+     *
+     * @see Projection
+     */
+    public default BulkResponse getRegistryObjectSummaries(Projection projection, Collection objectKeys) throws JAXRException {
+        return projection.summarize(getRegistryObjects(objectKeys));
+    }
+
+    /**
+     * Gets the RegistryObjects owned by the caller, that are of the specified
+     * type, as summaries that carry only the attributes of the given Projection.
+     * The default implementation gets the complete objects and summarizes
+     * them; providers should override it to request only the projected
+     * attributes from the registry.
+     *
+     * <DL><DT><B>Capability Level: 0 </B></DL>
+     *
+     * @param projection	the attributes to return
+     * @param objectType Is a constant that defines the type of object sought. See LifeCycleManager for constants for object types.
+     * @return BulkResponse containing a Collection of RegistryObjectSummary objects
+     * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+     *
+     * @see Projection
+     */
+    public default BulkResponse getRegistryObjectSummaries(Projection projection, String objectType) throws JAXRException {
+        return projection.summarize(getRegistryObjects(objectType));
+    }
+
+    /**
+     * Gets the page of a paged query identified by a continuation token.
+     * The default implementation throws UnsupportedCapabilityException.
+     *
+     * <DL><DT><B>Capability Level: 0 (optional) </B></DL>
+     *
+     * @param continuationToken a token returned by PagedBulkResponse.getContinuationToken
+     * @return the page identified by the token
+     * @throws InvalidRequestException If the token is unknown or has expired
+     * @throws UnsupportedCapabilityException If the provider does not page its results
+     * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+     *
+     * @see PagedBulkResponse
+     */
+    public default PagedBulkResponse getNextPage(String continuationToken) throws JAXRException {
+        throw new UnsupportedCapabilityException("Paged queries are not supported");
+    }
+
+    /**
+     * Gets a RegistryObject only if it has changed since the version the
+     * client holds, as given by the major and minor version of a
+     * Versionable object such as a ClassificationScheme or an
+     * ExtrinsicObject. This lets a client refresh a large object it has
+     * cached without transferring it again when it has not changed.
+     * <p>
+     * The default implementation fetches the object in full and always
+     * returns it as modified: once it has been transferred, comparing
+     * versions would save nothing and would throw the fetched object away.
+     * Only providers whose registry compares versions itself, and so can
+     * skip the transfer, should override it to answer not modified.
+     *
+     * <DL><DT><B>Capability Level: 1 </B></DL>
+     *
+     * @param id	the id of the Key of the object
+     * @param majorVersion	the major version of the object the client holds
+     * @param minorVersion	the minor version of the object the client holds
+     * @return a ConditionalResult that is not modified if the registry found
+     *         that the object still has that version, or that carries the
+     *         current object otherwise
+     * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+     *
+     * @see ConditionalResult
+     * @see javax.xml.registry.infomodel.Versionable
+     */
+    public default ConditionalResult getRegistryObjectIfModified(String id, int majorVersion, int minorVersion) throws JAXRException {
+        return ConditionalResult.modified(getRegistryObject(id));
+    }
+
     /**
      * Returns the parent RegistryService that created this object.
      *
@@ -0,0 +1,548 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import javax.xml.registry.infomodel.*;
+
+/**
+ * A cache of RegistryObjects keyed by the id of their Key, for registry
+ * content that changes rarely, such as taxonomies and organizations.
+ * <p>
+ * A Connection returned by {@link #wrap(Connection)} reads through the
+ * cache: its getRegistryObject, findConceptByPath and
+ * findClassificationSchemeByName calls return cached objects when they
+ * can, and cache the objects they fetch. Its LifeCycleManager calls that
+ * change objects, such as saveObjects, deleteObjects, deprecateObjects and
+ * unDeprecateObjects, remove the objects passed to them and the objects
+ * they return from the cache. A lookup that was already under way when
+ * an object was removed does not put its copy back. Objects that the
+ * registry changes as a consequence are not removed: the Services and
+ * ServiceBindings of a deleted Organization, for example, stay cached
+ * until they expire or are passed to {@link #invalidate(String)}.
+ * Changes made through other connections are likewise only seen once
+ * the cached objects expire.
+ * <p>
+ * The cache holds at most <code>maxSize</code> objects, evicting the
+ * least recently used, and each object for at most the time to live.
+ * It can also remember lookups and queries that found nothing; see
+ * {@link #setNegativeCaching(int, long, TimeUnit)}.
+ * <p>
+ * An expired object that is Versionable, such as a ClassificationScheme
+ * or an ExtrinsicObject, is kept and revalidated when it is next looked
+ * up: the wrapped Connection asks the registry, with
+ * {@link QueryManager#getRegistryObjectIfModified(String, int, int)},
+ * whether the object has changed since its cached version, and keeps the
+ * cached object for another time to live if it has not. It
+ * is divided into stripes locked separately, so threads reading different
+ * objects rarely wait for each other.
+ *
+ * @see Connection
+ */
+public class RegistryObjectCache {
+
+    private static final int STRIPES = 16;
+
+    /**
+     * The number of slots recording when ids were last invalidated. Ids
+     * that share a slot only make puts of each other skipped needlessly.
+     */
+    private static final int INVALIDATION_SLOTS = 1024;
+
+    /**
+     * A cached object, or for a query key, the id of the object found.
+     */
+    private static final class CachedEntry {
+        final Object value;
+        final long expiresAt;
+
+        CachedEntry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * One stripe of a Store, in least recently used order.
+     */
+    private final class Stripe extends LinkedHashMap<String, CachedEntry> {
+        private static final long serialVersionUID = 1L;
+        private final int capacity;
+
+        Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        protected boolean removeEldestEntry(Map.Entry<String, CachedEntry> eldest) {
+            if (size() > capacity) {
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Entries with a size limit and a time to live, in separately locked
+     * stripes.
+     */
+    private final class Store {
+        private final Stripe[] stripes = new Stripe[STRIPES];
+        private final long ttlNanos;
+        private final boolean negative;
+
+        Store(int maxSize, long ttl, TimeUnit unit, boolean negative) {
+            if (maxSize < 1 || ttl <= 0) {
+                throw new IllegalArgumentException(maxSize + ", " + ttl);
+            }
+            int capacity = Math.max(1, (maxSize + STRIPES - 1) / STRIPES);
+            for (int i = 0; i < STRIPES; i++) {
+                stripes[i] = new Stripe(capacity);
+            }
+            this.ttlNanos = unit.toNanos(ttl);
+            this.negative = negative;
+        }
+
+        Object lookup(String key) {
+            Stripe stripe = stripe(key);
+            synchronized (stripe) {
+                CachedEntry entry = stripe.get(key);
+                if (entry == null) {
+                    return null;
+                }
+                if (entry.expiresAt - System.nanoTime() <= 0) {
+                    if (!(entry.value instanceof Versionable)) {
+                        stripe.remove(key);
+                        evictions.incrementAndGet();
+                    }
+                    return null;
+                }
+                return entry.value;
+            }
+        }
+
+        /**
+         * Gets a value even if it has expired, for revalidation.
+         */
+        Object lookupStale(String key) {
+            Stripe stripe = stripe(key);
+            synchronized (stripe) {
+                CachedEntry entry = stripe.get(key);
+                return (entry != null) ? entry.value : null;
+            }
+        }
+
+        void store(String key, Object value) {
+            CachedEntry entry =
+                new CachedEntry(value, System.nanoTime() + ttlNanos);
+            Stripe stripe = stripe(key);
+            synchronized (stripe) {
+                stripe.put(key, entry);
+            }
+        }
+
+        /**
+         * Stores a value unless the object <code>id</code>, or for a
+         * negative result any negative result, has been invalidated since
+         * <code>stamp</code>. The check is made under the lock of the
+         * stripe, so an invalidation either makes it fail or removes the
+         * value after it is stored.
+         */
+        boolean store(String key, Object value, String id, long stamp) {
+            CachedEntry entry =
+                new CachedEntry(value, System.nanoTime() + ttlNanos);
+            Stripe stripe = stripe(key);
+            synchronized (stripe) {
+                if (negative ? negativesInvalidatedAt > stamp ||
+                    allInvalidatedAt > stamp :
+                    isInvalidatedSince(id, stamp)) {
+                    return false;
+                }
+                stripe.put(key, entry);
+                return true;
+            }
+        }
+
+        boolean remove(String key) {
+            Stripe stripe = stripe(key);
+            synchronized (stripe) {
+                return stripe.remove(key) != null;
+            }
+        }
+
+        int clear() {
+            int removed = 0;
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    removed += stripe.size();
+                    stripe.clear();
+                }
+            }
+            return removed;
+        }
+
+        int size() {
+            int size = 0;
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    size += stripe.size();
+                }
+            }
+            return size;
+        }
+
+        private Stripe stripe(String key) {
+            int h = key.hashCode();
+            return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+        }
+    }
+
+    private final Store objects;
+    private volatile Store absent;
+
+    /**
+     * Counts invalidations, so that a lookup can tell whether the object
+     * it fetched was invalidated while it was being fetched.
+     */
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLongArray invalidatedAt =
+        new AtomicLongArray(INVALIDATION_SLOTS);
+    private volatile long allInvalidatedAt;
+    private volatile long negativesInvalidatedAt;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong negativeHits = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+
+    /**
+     * Creates an empty RegistryObjectCache.
+     *
+     * @param maxSize the largest number of objects cached
+     * @param ttl how long an object is cached
+     * @param unit the unit of <code>ttl</code>
+     */
+    public RegistryObjectCache(int maxSize, long ttl, TimeUnit unit) {
+        this.objects = new Store(maxSize, ttl, unit, false);
+    }
+
+    /**
+     * Enables the caching of negative results: ids for which no object was
+     * found, and find queries that found nothing. A repeated lookup of a
+     * missing id or a repeated empty query is then answered without
+     * asking the registry, until the negative result expires or an object
+     * is saved, confirmed or unconfirmed through a wrapped Connection.
+     * Lookups whose result depends on the caller, such as
+     * findCallerAssociations, are never cached. Negative results are kept
+     * apart from the cached objects, with their own size limit and a time
+     * to live that is usually much shorter.
+     *
+     * @param maxSize the largest number of negative results cached
+     * @param ttl how long a negative result is cached
+     * @param unit the unit of <code>ttl</code>
+     */
+    public void setNegativeCaching(int maxSize, long ttl, TimeUnit unit) {
+        absent = new Store(maxSize, ttl, unit, true);
+    }
+
+    /**
+     * Wraps a Connection so that it reads through this cache and
+     * invalidates it when it changes objects. Closing the returned
+     * Connection closes the wrapped one.
+     *
+     * @param connection the Connection to wrap
+     * @return a Connection that uses this cache
+     */
+    public Connection wrap(Connection connection) {
+        return new CachingConnection(connection, this);
+    }
+
+    /**
+     * Gets a cached object.
+     *
+     * @param id the id of the Key of the object
+     * @return the object, or <code>null</code> if it is not cached
+     */
+    public RegistryObject get(String id) {
+        Object value = objects.lookup(id);
+        if (value instanceof RegistryObject) {
+            hits.incrementAndGet();
+            return (RegistryObject) value;
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Caches an object under the id of its Key.
+     *
+     * @param registryObject the object to cache
+     * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+     */
+    public void put(RegistryObject registryObject) throws JAXRException {
+        put(registryObject, stamp());
+    }
+
+    /**
+     * Removes an object from the cache. A lookup of the object that is
+     * under way does not cache the copy it fetches.
+     *
+     * @param id the id of the Key of the object
+     */
+    public void invalidate(String id) {
+        invalidatedAt.accumulateAndGet(slot(id), clock.incrementAndGet(),
+            Math::max);
+        if (objects.remove(id)) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    /**
+     * Removes all objects and negative results from the cache.
+     */
+    public void invalidateAll() {
+        allInvalidatedAt = clock.incrementAndGet();
+        invalidations.addAndGet(objects.clear());
+        invalidateNegatives();
+    }
+
+    /**
+     * Removes all negative results from the cache, which is done whenever
+     * an object is saved, or an Association confirmed or unconfirmed,
+     * through a wrapped Connection, since it may be one that was missing
+     * or that an empty query would now find.
+     */
+    public void invalidateNegatives() {
+        negativesInvalidatedAt = clock.incrementAndGet();
+        Store store = absent;
+        if (store != null) {
+            invalidations.addAndGet(store.clear());
+        }
+    }
+
+    /**
+     * Gets the number of objects and query results cached, not counting
+     * negative results.
+     *
+     * @return the size of the cache
+     */
+    public int size() {
+        return objects.size();
+    }
+
+    /**
+     * Gets the number of lookups answered from the cache.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of lookups that had to go to the registry.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the number of lookups answered by a cached negative result.
+     * These are not counted as hits.
+     *
+     * @return the number of negative hits
+     */
+    public long getNegativeHitCount() {
+        return negativeHits.get();
+    }
+
+    /**
+     * Gets the number of expired Versionable objects that were found
+     * unchanged by a conditional fetch and kept, instead of being fetched
+     * again in full.
+     *
+     * @return the number of revalidated objects
+     */
+    public long getRevalidationCount() {
+        return revalidations.get();
+    }
+
+    /**
+     * Gets the number of entries evicted to keep the cache within its
+     * size, or because they expired.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * Gets the number of entries removed because their objects changed.
+     *
+     * @return the number of invalidations
+     */
+    public long getInvalidationCount() {
+        return invalidations.get();
+    }
+
+    /**
+     * Gets the current invalidation stamp, which a lookup takes before it
+     * asks the registry and passes to the put of what it fetched.
+     */
+    long stamp() {
+        return clock.get();
+    }
+
+    /**
+     * Caches an object unless it has been invalidated since
+     * <code>stamp</code>.
+     */
+    void put(RegistryObject registryObject, long stamp) throws JAXRException {
+        Key key = registryObject.getKey();
+        if (key != null && key.getId() != null) {
+            objects.store(key.getId(), registryObject, key.getId(), stamp);
+        }
+    }
+
+    /**
+     * Gets a cached object by the query that found it, such as the path of
+     * a Concept.
+     *
+     * @return the object, or <code>null</code> if it is not cached
+     */
+    RegistryObject getByQuery(String query) {
+        Object id = objects.lookup(query);
+        Object value = (id instanceof String) ?
+            objects.lookup((String) id) : null;
+        if (value instanceof RegistryObject) {
+            hits.incrementAndGet();
+            return (RegistryObject) value;
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Caches an object and the query that found it, unless the object has
+     * been invalidated since <code>stamp</code>.
+     */
+    void putByQuery(String query, RegistryObject registryObject, long stamp)
+    throws JAXRException {
+        Key key = registryObject.getKey();
+        if (key != null && key.getId() != null &&
+            objects.store(key.getId(), registryObject, key.getId(), stamp)) {
+            objects.store(query, key.getId());
+        }
+    }
+
+    /**
+     * Gets a cached object whether or not it has expired, for revalidation.
+     *
+     * @return the object, or <code>null</code> if it is not cached
+     */
+    RegistryObject getStale(String id) {
+        Object value = objects.lookupStale(id);
+        return (value instanceof RegistryObject) ? (RegistryObject) value : null;
+    }
+
+    /**
+     * Gets a cached object by the query that found it, whether or not it
+     * has expired, for revalidation.
+     *
+     * @return the object, or <code>null</code> if it is not cached
+     */
+    RegistryObject getStaleByQuery(String query) {
+        Object id = objects.lookupStale(query);
+        return (id instanceof String) ? getStale((String) id) : null;
+    }
+
+    /**
+     * Keeps a stale object that was found unchanged for another time to
+     * live.
+     */
+    void revalidated(RegistryObject registryObject, long stamp)
+    throws JAXRException {
+        revalidations.incrementAndGet();
+        put(registryObject, stamp);
+    }
+
+    /**
+     * Keeps a stale object and the query that found it, both found
+     * unchanged, for another time to live.
+     */
+    void revalidated(String query, RegistryObject registryObject,
+    long stamp) throws JAXRException {
+        revalidations.incrementAndGet();
+        putByQuery(query, registryObject, stamp);
+    }
+
+    /**
+     * Determines whether a lookup is cached as having found nothing.
+     *
+     * @param key the id looked up, or a key built from the lookup
+     */
+    boolean isAbsent(String key) {
+        return getAbsent(key) != null;
+    }
+
+    /**
+     * Caches that a lookup found nothing, if negative caching is enabled
+     * and no negative results have been invalidated since
+     * <code>stamp</code>.
+     *
+     * @param key the id looked up, or a key built from the lookup
+     */
+    void putAbsent(String key, long stamp) {
+        Store store = absent;
+        if (store != null) {
+            store.store(key, Boolean.TRUE, key, stamp);
+        }
+    }
+
+    boolean isNegativeCaching() {
+        return absent != null;
+    }
+
+    private boolean isInvalidatedSince(String id, long stamp) {
+        return allInvalidatedAt > stamp ||
+            invalidatedAt.get(slot(id)) > stamp;
+    }
+
+    private static int slot(String id) {
+        int h = id.hashCode();
+        return (h ^ (h >>> 16)) & (INVALIDATION_SLOTS - 1);
+    }
+
+    private Object getAbsent(String key) {
+        Store store = absent;
+        Object value = (store != null) ? store.lookup(key) : null;
+        if (value != null) {
+            negativeHits.incrementAndGet();
+        }
+        return value;
+    }
+}
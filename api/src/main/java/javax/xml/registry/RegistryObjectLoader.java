@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Coalesces getRegistryObject calls made at about the same time, by any
+ * number of threads, into one getRegistryObjects call per batch.
+ * <p>
+ * The first caller to look up an object of a given type opens a batch and
+ * waits for the batch window. The calls made meanwhile for the same type
+ * join the batch. When the window ends, or as soon as the batch reaches
+ * its maximum size, one getRegistryObjects call fetches all the objects
+ * of the batch, and each caller gets its own object. An id asked for by
+ * several callers is fetched once.
+ * <p>
+ * A lookup thus waits up to the batch window longer than a direct
+ * getRegistryObject call, so a window of a few milliseconds is usually
+ * enough: it only needs to cover calls that arrive together.
+ *
+ * @see QueryManager#getRegistryObject(String, String)
+ * @see QueryManager#getRegistryObjects(Collection, String)
+ */
+public class RegistryObjectLoader {
+
+    private final QueryManager queryManager;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final Map<String, Batch> open = new HashMap<String, Batch>();
+    private volatile LifeCycleManager lifeCycleManager;
+
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    /**
+     * Creates a RegistryObjectLoader.
+     *
+     * @param queryManager the QueryManager that fetches the objects
+     * @param maxBatchSize the largest number of ids fetched by one call
+     * @param window how long the first lookup of a batch waits for others
+     * @param unit the unit of <code>window</code>
+     */
+    public RegistryObjectLoader(QueryManager queryManager, int maxBatchSize,
+    long window, TimeUnit unit) {
+        if (queryManager == null) {
+            throw new NullPointerException();
+        }
+        if (maxBatchSize < 1 || window < 0) {
+            throw new IllegalArgumentException(maxBatchSize + ", " + window);
+        }
+        this.queryManager = queryManager;
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = unit.toNanos(window);
+    }
+
+    /**
+     * Gets the RegistryObject with the given id, of any type, fetched
+     * together with other lookups made at the same time.
+     *
+     * @param id the id of the Key of the object
+     * @return the RegistryObject, or <code>null</code> if there is none
+     * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+     */
+    public RegistryObject load(String id) throws JAXRException {
+        return load(id, null);
+    }
+
+    /**
+     * Gets the RegistryObject with the given id and type, fetched together
+     * with other lookups of that type made at the same time.
+     *
+     * @param id the id of the Key of the object
+     * @param objectType the type of the object, as one of the constants of
+     *        LifeCycleManager, or <code>null</code> for any type
+     * @return the RegistryObject, or <code>null</code> if there is none
+     * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+     */
+    public RegistryObject load(String id, String objectType)
+    throws JAXRException {
+        if (id == null) {
+            throw new NullPointerException();
+        }
+        loads.incrementAndGet();
+        String type = (objectType != null) ? objectType : "";
+        Batch batch;
+        CompletableFuture<RegistryObject> result;
+        boolean leader = false;
+        boolean full = false;
+        synchronized (this) {
+            batch = open.get(type);
+            if (batch == null) {
+                batch = new Batch(objectType);
+                open.put(type, batch);
+                leader = true;
+            }
+            result = batch.add(id);
+            if (batch.size() >= maxBatchSize) {
+                open.remove(type);
+                full = true;
+            }
+        }
+        if (full) {
+            batch.close();
+            batch.dispatch();
+        } else if (leader) {
+            try {
+                batch.closed.await(windowNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (this) {
+                if (open.get(type) == batch) {
+                    open.remove(type);
+                }
+            }
+            batch.dispatch();
+        }
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof JAXRException) {
+                throw (JAXRException) cause;
+            }
+            throw new JAXRException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JAXRException(e);
+        }
+    }
+
+    /**
+     * Gets the number of lookups made.
+     *
+     * @return the number of lookups
+     */
+    public long getLoadCount() {
+        return loads.get();
+    }
+
+    /**
+     * Gets the number of getRegistryObjects calls made for the lookups.
+     *
+     * @return the number of batches
+     */
+    public long getBatchCount() {
+        return batches.get();
+    }
+
+    private Key createKey(String id) throws JAXRException {
+        LifeCycleManager lcm = lifeCycleManager;
+        if (lcm == null) {
+            lcm = queryManager.getRegistryService().getBusinessLifeCycleManager();
+            lifeCycleManager = lcm;
+        }
+        return lcm.createKey(id);
+    }
+
+    /**
+     * The lookups of one type collected during one window.
+     */
+    private final class Batch {
+        final String objectType;
+        final Map<String, CompletableFuture<RegistryObject>> results =
+            new LinkedHashMap<String, CompletableFuture<RegistryObject>>();
+        final CountDownLatch closed = new CountDownLatch(1);
+        final AtomicBoolean dispatched = new AtomicBoolean();
+
+        Batch(String objectType) {
+            this.objectType = objectType;
+        }
+
+        /* Called with the loader locked. */
+        CompletableFuture<RegistryObject> add(String id) {
+            CompletableFuture<RegistryObject> result = results.get(id);
+            if (result == null) {
+                result = new CompletableFuture<RegistryObject>();
+                results.put(id, result);
+            }
+            return result;
+        }
+
+        /* Called with the loader locked. */
+        int size() {
+            return results.size();
+        }
+
+        void close() {
+            closed.countDown();
+        }
+
+        /* Called once the batch is no longer open, so results is not modified. */
+        void dispatch() {
+            if (!dispatched.compareAndSet(false, true)) {
+                return;
+            }
+            batches.incrementAndGet();
+            try {
+                List<Key> keys = new ArrayList<Key>(results.size());
+                for (String id : results.keySet()) {
+                    keys.add(createKey(id));
+                }
+                BulkResponse response = (objectType != null) ?
+                    queryManager.getRegistryObjects(keys, objectType) :
+                    queryManager.getRegistryObjects(keys);
+                complete(response);
+            } catch (Throwable t) {
+                for (CompletableFuture<RegistryObject> result : results.values()) {
+                    result.completeExceptionally(t);
+                }
+            }
+        }
+
+        private void complete(BulkResponse response) throws JAXRException {
+            for (Object o : response.getCollection()) {
+                RegistryObject ro = (RegistryObject) o;
+                Key key = ro.getKey();
+                CompletableFuture<RegistryObject> result =
+                    (key != null) ? results.get(key.getId()) : null;
+                if (result != null) {
+                    result.complete(ro);
+                }
+            }
+            JAXRException unattributed = null;
+            Collection exceptions = response.getExceptions();
+            if (exceptions != null) {
+                for (Object o : exceptions) {
+                    JAXRException e = (JAXRException) o;
+                    Key key = (e instanceof RegistryException) ?
+                        ((RegistryException) e).getErrorObjectKey() : null;
+                    CompletableFuture<RegistryObject> result =
+                        (key != null) ? results.get(key.getId()) : null;
+                    if (result != null) {
+                        result.completeExceptionally(e);
+                    } else if (unattributed == null) {
+                        unattributed = e;
+                    }
+                }
+            }
+            for (CompletableFuture<RegistryObject> result : results.values()) {
+                if (unattributed != null) {
+                    result.completeExceptionally(unattributed);
+                } else {
+                    result.complete(null);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry;
+
+/**
+ * A lightweight, read-only view of a RegistryObject returned by a query
+ * with a Projection. Only the attributes included in the Projection are
+ * set; the others are <code>null</code>.
+ *
+ * @see Projection
+ */
+public final class RegistryObjectSummary {
+
+    private final String id;
+    private final String name;
+    private final String description;
+    private final String objectType;
+
+    /**
+     * Creates a summary.
+     *
+     * @param id the id of the Key of the object
+     * @param name the name of the object, or <code>null</code>
+     * @param description the description of the object, or <code>null</code>
+     * @param objectType the object type of the object, or <code>null</code>
+     */
+    public RegistryObjectSummary(String id, String name, String description,
+    String objectType) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.objectType = objectType;
+    }
+
+    /**
+     * Gets the id of the Key of the object.
+     *
+     * @return the id of the object
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the name of the object in the default locale.
+     *
+     * @return the name, or <code>null</code> if it was not projected or is not set
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the description of the object in the default locale.
+     *
+     * @return the description, or <code>null</code> if it was not projected or is not set
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Gets the object type of the object, such as "Organization".
+     *
+     * @return the object type, or <code>null</code> if it was not projected
+     */
+    public String getObjectType() {
+        return objectType;
+    }
+
+    public String toString() {
+        return (name != null) ? name + " (" + id + ")" : String.valueOf(id);
+    }
+}
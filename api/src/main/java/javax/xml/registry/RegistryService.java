@@ -17,6 +17,7 @@
 package javax.xml.registry;
 
 import java.util.*;
+import java.util.concurrent.Executor;
 
 import javax.xml.registry.infomodel.*;
 
@@ -84,11 +85,34 @@ public interface RegistryService {
      */
     DeclarativeQueryManager getDeclarativeQueryManager() throws JAXRException, UnsupportedCapabilityException;
 
+    /**
+     * Returns an AsyncBusinessQueryManager whose requests run on the given Executor.
+     * <p>
+     * The default implementation runs the calls of the BusinessQueryManager
+     * returned by getBusinessQueryManager on the Executor, which takes one
+     * thread of the Executor per request in flight. Providers with a
+     * non-blocking transport should override it.
+     *
+     * <DL><DT><B>Capability Level: 0 </B></DL>
+     *
+     * @param executor the Executor that runs the requests
+     * @return the AsyncBusinessQueryManager
+     * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+     *
+     * @see AsyncBusinessQueryManager
+     */
+    default AsyncBusinessQueryManager getAsyncBusinessQueryManager(Executor executor) throws JAXRException {
+        return new ExecutorAsyncBusinessQueryManager(getBusinessQueryManager(), executor);
+    }
+
 	/**
 	 * Returns the BulkResponse associated with specified requestId.
 	 * Once a client retrieves a BulkResponse for a particular requestId
 	 * any subsequent calls to retrieve the Bulkresponse for the same requestId
 	 * should result in an InvalidRequestException.
+	 * A provider may also discard a response that has not been retrieved
+	 * within a provider defined time after it became available, in which
+	 * case an InvalidRequestException is thrown as well.
 	 *
 	 * <DL><DT><B>Capability Level: 0 </B></DL>
 	 *
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry.spi;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import javax.xml.registry.*;
+
+/**
+ * A BulkResponse that is returned before its result is known, for use by
+ * non-synchronous connections. The result is supplied by a
+ * CompletableFuture; until it completes, getStatus returns
+ * STATUS_UNAVAILABLE and the methods that need the result block.
+ * <p>
+ * If the future completes exceptionally, the response has status
+ * STATUS_FAILURE, an empty collection, and the failure as its only
+ * exception. A response that is cancelled has status STATUS_UNAVAILABLE,
+ * and one whose deadline passes has status STATUS_TIMEOUT.
+ * <p>
+ * Cancelling the response, or missing the deadline, interrupts the thread
+ * running the request and runs the hooks registered with
+ * {@link #onCancel(Runnable)}, which a provider uses to abort the transport.
+ *
+ * @see RequestExecutor#submit(Callable)
+ */
+public class AsyncBulkResponse implements CancellableBulkResponse {
+
+    private final String requestId;
+    private final CompletableFuture<BulkResponse> future;
+    private final List<Runnable> cancelHooks = new ArrayList<Runnable>();
+    private Thread worker;
+    private boolean released;
+
+    /**
+     * Creates a response whose result is supplied by the given future.
+     *
+     * @param requestId the unique id of the request
+     * @param future the future that completes with the result
+     */
+    public AsyncBulkResponse(String requestId,
+    CompletableFuture<BulkResponse> future) {
+        this(requestId, future, null);
+    }
+
+    /**
+     * Creates a response whose result is supplied by the given future, and
+     * which times out at the given deadline.
+     *
+     * @param requestId the unique id of the request
+     * @param future the future that completes with the result
+     * @param deadline the deadline of the request, or <code>null</code> if it has none
+     */
+    public AsyncBulkResponse(String requestId,
+    CompletableFuture<BulkResponse> future, Deadline deadline) {
+        if (requestId == null || future == null) {
+            throw new NullPointerException();
+        }
+        this.requestId = requestId;
+        this.future = future;
+        if (deadline != null) {
+            final ScheduledFuture<?> timeout = Timeouts.schedule(
+                () -> timeout(), deadline.remaining(TimeUnit.NANOSECONDS),
+                TimeUnit.NANOSECONDS);
+            future.whenComplete((r, t) -> timeout.cancel(false));
+        }
+    }
+
+    /**
+     * Gets the future that supplies the result of this response.
+     *
+     * @return the future of this response
+     */
+    public CompletableFuture<BulkResponse> getFuture() {
+        return future;
+    }
+
+    /**
+     * Registers a hook that releases resources of the request, such as its
+     * transport connection, if the request is cancelled or times out. If
+     * that has already happened, the hook runs at once.
+     *
+     * @param hook the hook to run
+     */
+    public void onCancel(Runnable hook) {
+        synchronized (this) {
+            if (!released) {
+                cancelHooks.add(hook);
+                return;
+            }
+        }
+        hook.run();
+    }
+
+    public boolean cancel() {
+        if (!future.cancel(false)) {
+            return false;
+        }
+        release();
+        return true;
+    }
+
+    public boolean isCancelled() {
+        return future.isCancelled();
+    }
+
+    public Collection getCollection() throws JAXRException {
+        BulkResponse result = await();
+        return (result != null) ? result.getCollection() : new ArrayList();
+    }
+
+    public Collection getExceptions() throws JAXRException {
+        BulkResponse result = await();
+        if (result != null) {
+            return result.getExceptions();
+        }
+        Collection<JAXRException> exceptions = new ArrayList<JAXRException>();
+        exceptions.add(getFailure());
+        return exceptions;
+    }
+
+    public boolean isPartialResponse() throws JAXRException {
+        BulkResponse result = await();
+        return (result != null) && result.isPartialResponse();
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public int getStatus() throws JAXRException {
+        if (!future.isDone() || future.isCancelled()) {
+            return STATUS_UNAVAILABLE;
+        }
+        BulkResponse result = await();
+        if (result != null) {
+            return result.getStatus();
+        }
+        return (getFailure() instanceof RequestTimeoutException) ?
+            STATUS_TIMEOUT : STATUS_FAILURE;
+    }
+
+    public boolean isAvailable() {
+        return future.isDone();
+    }
+
+    /**
+     * Records the thread that runs the request, so that it can be
+     * interrupted on cancellation; <code>null</code> when it is done.
+     * Returns false if the request should not be run at all.
+     */
+    synchronized boolean setWorker(Thread thread) {
+        if (released && thread != null) {
+            return false;
+        }
+        worker = thread;
+        return true;
+    }
+
+    private void timeout() {
+        if (future.completeExceptionally(new RequestTimeoutException(
+            "Request " + requestId + " did not complete before its deadline"))) {
+            release();
+        }
+    }
+
+    private void release() {
+        List<Runnable> hooks;
+        synchronized (this) {
+            if (released) {
+                return;
+            }
+            released = true;
+            if (worker != null) {
+                worker.interrupt();
+            }
+            hooks = new ArrayList<Runnable>(cancelHooks);
+            cancelHooks.clear();
+        }
+        for (Runnable hook : hooks) {
+            try {
+                hook.run();
+            } catch (RuntimeException x) {
+                // the remaining hooks must still run
+            }
+        }
+    }
+
+    /**
+     * Waits for the result.
+     *
+     * @return the result, or <code>null</code> if the request failed
+     */
+    BulkResponse await() throws JAXRException {
+        try {
+            return future.get();
+        } catch (InterruptedException x) {
+            Thread.currentThread().interrupt();
+            throw new JAXRException("Interrupted while waiting for request " + requestId, x);
+        } catch (ExecutionException x) {
+            return null;
+        } catch (CancellationException x) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the failure of a request that completed exceptionally, as a
+     * JAXRException.
+     */
+    JAXRException getFailure() {
+        try {
+            future.getNow(null);
+            return null;
+        } catch (CompletionException x) {
+            Throwable cause = (x.getCause() != null) ? x.getCause() : x;
+            if (cause instanceof JAXRException) {
+                return (JAXRException) cause;
+            }
+            return new JAXRException(cause);
+        } catch (CancellationException x) {
+            return new JAXRException("Request " + requestId + " was cancelled", x);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry.spi;
+
+import java.util.*;
+
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * The per-object failures of a bulk operation, such as a saveObjects or
+ * deleteObjects call over many keys, held as key id, error code and
+ * message instead of one exception per object.
+ * <p>
+ * The exceptions are built only when the Collection returned by
+ * {@link #getExceptions()} is iterated, and they are built without a
+ * stack trace. A cause added for many failures, such as the fault of the
+ * batch they were sent in, is shared by their exceptions rather than
+ * copied.
+ * <p>
+ * A BulkFailures is not thread-safe while failures are being added; it
+ * is meant to be filled by the thread that parses the registry response
+ * and then handed to the BulkResponse.
+ */
+public final class BulkFailures {
+
+    /**
+     * The operation whose failures are held, which determines the type of
+     * the exceptions built.
+     */
+    public enum Operation {
+        /** Failures are reported as SaveException objects. */
+        SAVE,
+        /** Failures are reported as DeleteException objects. */
+        DELETE,
+        /** Failures are reported as RegistryException objects. */
+        OTHER
+    }
+
+    private final Operation operation;
+    private String[] keyIds = new String[8];
+    private String[] errorCodes = new String[8];
+    private String[] messages = new String[8];
+    private Throwable[] causes;
+    private int size;
+    private JAXRException[] exceptions;
+
+    /**
+     * Creates an empty BulkFailures.
+     *
+     * @param operation the operation whose failures are held
+     */
+    public BulkFailures(Operation operation) {
+        if (operation == null) {
+            throw new NullPointerException();
+        }
+        this.operation = operation;
+    }
+
+    /**
+     * Adds the failure of one object.
+     *
+     * @param keyId the id of the Key of the object in error, or <code>null</code>
+     * @param errorCode the error code reported by the registry, or <code>null</code>
+     * @param message a description of the failure
+     */
+    public void add(String keyId, String errorCode, String message) {
+        add(keyId, errorCode, message, null);
+    }
+
+    /**
+     * Adds the failure of one object with a cause. Passing the same cause
+     * for several failures makes their exceptions share it.
+     *
+     * @param keyId the id of the Key of the object in error, or <code>null</code>
+     * @param errorCode the error code reported by the registry, or <code>null</code>
+     * @param message a description of the failure
+     * @param cause the cause of the failure, or <code>null</code>
+     */
+    public void add(String keyId, String errorCode, String message,
+    Throwable cause) {
+        if (size == keyIds.length) {
+            int capacity = size * 2;
+            keyIds = Arrays.copyOf(keyIds, capacity);
+            errorCodes = Arrays.copyOf(errorCodes, capacity);
+            messages = Arrays.copyOf(messages, capacity);
+            if (causes != null) {
+                causes = Arrays.copyOf(causes, capacity);
+            }
+        }
+        if (cause != null && causes == null) {
+            causes = new Throwable[keyIds.length];
+        }
+        keyIds[size] = keyId;
+        errorCodes[size] = errorCode;
+        messages[size] = message;
+        if (cause != null) {
+            causes[size] = cause;
+        }
+        size++;
+        exceptions = null;
+    }
+
+    /**
+     * Gets the operation whose failures are held.
+     *
+     * @return the operation
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Gets the number of failures.
+     *
+     * @return the number of failures
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines whether there are no failures.
+     *
+     * @return <code>true</code> if there are no failures
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the id of the Key of the object of a failure.
+     *
+     * @param index the index of the failure
+     * @return the key id, or <code>null</code>
+     */
+    public String getKeyId(int index) {
+        checkIndex(index);
+        return keyIds[index];
+    }
+
+    /**
+     * Gets the error code of a failure.
+     *
+     * @param index the index of the failure
+     * @return the error code, or <code>null</code>
+     */
+    public String getErrorCode(int index) {
+        checkIndex(index);
+        return errorCodes[index];
+    }
+
+    /**
+     * Gets the message of a failure.
+     *
+     * @param index the index of the failure
+     * @return the message
+     */
+    public String getMessage(int index) {
+        checkIndex(index);
+        return messages[index];
+    }
+
+    /**
+     * Gets the failures as a Collection of exceptions, in the form
+     * expected by BulkResponse.getExceptions(). The size of the Collection
+     * is known without building any exception; each exception is built
+     * when the Collection is first iterated up to it and is kept, so that
+     * iterating again returns the same instances.
+     *
+     * @return an unmodifiable Collection of JAXRException objects, or
+     *         <code>null</code> if there are no failures
+     */
+    public Collection getExceptions() {
+        if (size == 0) {
+            return null;
+        }
+        final int count = size;
+        return new AbstractCollection<JAXRException>() {
+            public int size() {
+                return count;
+            }
+
+            public Iterator<JAXRException> iterator() {
+                return new Iterator<JAXRException>() {
+                    private int next;
+
+                    public boolean hasNext() {
+                        return next < count;
+                    }
+
+                    public JAXRException next() {
+                        if (next >= count) {
+                            throw new NoSuchElementException();
+                        }
+                        return getException(next++);
+                    }
+
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+    }
+
+    private synchronized JAXRException getException(int index) {
+        if (exceptions == null || exceptions.length < size) {
+            exceptions = (exceptions == null) ? new JAXRException[size] :
+                Arrays.copyOf(exceptions, size);
+        }
+        JAXRException e = exceptions[index];
+        if (e == null) {
+            e = newException(index);
+            exceptions[index] = e;
+        }
+        return e;
+    }
+
+    private JAXRException newException(int index) {
+        String reason = (errorCodes[index] != null) ?
+            errorCodes[index] + ": " + messages[index] : messages[index];
+        Throwable cause = (causes != null) ? causes[index] : null;
+        RegistryException e;
+        switch (operation) {
+            case SAVE:
+                e = new LightSaveException(reason, cause);
+                break;
+            case DELETE:
+                e = new LightDeleteException(reason, cause);
+                break;
+            default:
+                e = new LightRegistryException(reason, cause);
+                break;
+        }
+        if (keyIds[index] != null) {
+            try {
+                e.setErrorObjectKey(new FailedKey(keyIds[index]));
+            } catch (JAXRException never) {
+                // RegistryException.setErrorObjectKey does not throw
+            }
+        }
+        return e;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+    }
+
+    private static final class LightSaveException extends SaveException {
+        LightSaveException(String reason, Throwable cause) {
+            super(reason, cause, false);
+        }
+    }
+
+    private static final class LightDeleteException extends DeleteException {
+        LightDeleteException(String reason, Throwable cause) {
+            super(reason, cause, false);
+        }
+    }
+
+    private static final class LightRegistryException extends RegistryException {
+        LightRegistryException(String reason, Throwable cause) {
+            super(reason, cause, false);
+        }
+    }
+
+    private static final class FailedKey implements Key {
+        private String id;
+
+        FailedKey(String id) {
+            this.id = id;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String toString() {
+            return id;
+        }
+    }
+}
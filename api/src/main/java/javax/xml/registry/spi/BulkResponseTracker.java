@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry.spi;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import javax.xml.registry.*;
+
+/**
+ * Keeps the BulkResponses of asynchronous requests until the client
+ * retrieves them, for use in implementing RegistryService.getBulkResponse.
+ * <p>
+ * The tracker holds at most <code>capacity</code> responses. A response that
+ * has not been retrieved within the time to live after it became available
+ * may be evicted; responses still being computed are never evicted. The
+ * time an AsyncBulkResponse becomes available is known exactly; for other
+ * responses it is when the tracker first sees that isAvailable returns
+ * <code>true</code>, on tracking or in {@link #purge()}. When the tracker is full and nothing can be evicted, tracking
+ * another response fails, which applies back pressure to the client.
+ * <p>
+ * Lookups by request id do not lock. Eviction happens as responses are
+ * tracked, or when {@link #purge()} is called.
+ *
+ * @see RegistryService#getBulkResponse(String)
+ */
+public class BulkResponseTracker {
+
+    private final int capacity;
+    private final long ttlNanos;
+    private final ConcurrentMap<String, Entry> entries =
+        new ConcurrentHashMap<String, Entry>();
+    private final Queue<Entry> order = new ConcurrentLinkedQueue<Entry>();
+    /** The available entries, in the order they became available. */
+    private final Queue<Entry> expiring = new ConcurrentLinkedQueue<Entry>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong evicted = new AtomicLong();
+
+    /**
+     * Creates a tracker.
+     *
+     * @param capacity the maximum number of responses held
+     * @param ttl how long a response is kept after it became available, before it may be evicted
+     * @param unit the unit of <code>ttl</code>
+     */
+    public BulkResponseTracker(int capacity, long ttl, TimeUnit unit) {
+        if (capacity < 1 || ttl < 0) {
+            throw new IllegalArgumentException("capacity=" + capacity + ", ttl=" + ttl);
+        }
+        this.capacity = capacity;
+        this.ttlNanos = unit.toNanos(ttl);
+    }
+
+    /**
+     * Tracks the response of an asynchronous request under its request id.
+     *
+     * @param response the response, whose getRequestId must be unique
+     * @throws InvalidRequestException if a response with the same request id is already tracked
+     * @throws JAXRException	If the tracker is full, or the response cannot provide its request id
+     */
+    public void track(BulkResponse response) throws JAXRException {
+        String requestId = response.getRequestId();
+        if (requestId == null) {
+            throw new InvalidRequestException("Response has no request id");
+        }
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            purge();
+            if (size.incrementAndGet() > capacity) {
+                size.decrementAndGet();
+                throw new JAXRException("Too many unclaimed responses: " + capacity);
+            }
+        }
+        final Entry entry = new Entry(requestId, response);
+        if (entries.putIfAbsent(requestId, entry) != null) {
+            size.decrementAndGet();
+            throw new InvalidRequestException("Duplicate request id: " + requestId);
+        }
+        order.offer(entry);
+        if (entries.get(requestId) != entry) {
+            // claimed before it was queued
+            order.remove(entry);
+            return;
+        }
+        if (response instanceof AsyncBulkResponse) {
+            ((AsyncBulkResponse) response).getFuture().whenComplete(
+                (r, t) -> markAvailable(entry, System.nanoTime()));
+        } else {
+            checkAvailable(entry, System.nanoTime());
+        }
+        expireOldest();
+    }
+
+    /**
+     * Removes and returns the response for the given request id. As
+     * required by RegistryService.getBulkResponse, a response can only be
+     * retrieved once.
+     *
+     * @param requestId the id of a previous asynchronous request
+     * @return the response for the request
+     * @throws InvalidRequestException if no response is tracked for the request id, because it is unknown, was already retrieved, or was evicted
+     */
+    public BulkResponse claim(String requestId) throws InvalidRequestException {
+        Entry entry = (requestId == null) ? null : entries.remove(requestId);
+        if (entry == null) {
+            throw new InvalidRequestException(
+                "No response for request id " + requestId +
+                "; it is unknown, was already retrieved, or has expired");
+        }
+        size.decrementAndGet();
+        forget(entry);
+        return entry.response;
+    }
+
+    /**
+     * Returns the response for the given request id without removing it.
+     *
+     * @param requestId the id of a previous asynchronous request
+     * @return the response, or <code>null</code> if none is tracked
+     */
+    public BulkResponse peek(String requestId) {
+        Entry entry = (requestId == null) ? null : entries.get(requestId);
+        return (entry == null) ? null : entry.response;
+    }
+
+    /**
+     * Evicts every available response whose time to live has passed, and
+     * notes the responses that have become available since the last call.
+     *
+     * @return the number of responses evicted by this call
+     */
+    public int purge() {
+        long now = System.nanoTime();
+        int count = 0;
+        for (Iterator<Entry> it = order.iterator(); it.hasNext(); ) {
+            Entry entry = it.next();
+            if (entries.get(entry.requestId) != entry) {
+                // already claimed
+                it.remove();
+            } else if (checkAvailable(entry, now) && isExpired(entry, now) &&
+                evict(entry)) {
+                it.remove();
+                count++;
+            }
+        }
+        expireOldest();
+        return count;
+    }
+
+    /**
+     * Gets the number of responses currently held.
+     *
+     * @return the number of tracked responses
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Gets the maximum number of responses held.
+     *
+     * @return the capacity of this tracker
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the number of responses evicted without being retrieved.
+     *
+     * @return the number of evicted responses
+     */
+    public long getEvictedCount() {
+        return evicted.get();
+    }
+
+    /**
+     * Evicts expired responses in the order they became available,
+     * stopping at the first one whose time to live has not passed. Since
+     * pending responses are not in that queue, they hold nothing up.
+     * Claimed and evicted responses leave both queues at once; any that
+     * a race leaves behind are dropped here when they reach the head, or
+     * by purge.
+     */
+    private void expireOldest() {
+        long now = System.nanoTime();
+        Entry entry;
+        while ((entry = expiring.peek()) != null) {
+            if (entries.get(entry.requestId) != entry) {
+                expiring.remove(entry);
+            } else if (isExpired(entry, now) && evict(entry)) {
+                expiring.remove(entry);
+            } else {
+                break;
+            }
+        }
+        while ((entry = order.peek()) != null &&
+            entries.get(entry.requestId) != entry) {
+            order.remove(entry);
+        }
+    }
+
+    /**
+     * Notes whether the response of the entry is available.
+     *
+     * @return <code>true</code> if it is available
+     */
+    private boolean checkAvailable(Entry entry, long now) {
+        if (entry.available.get()) {
+            return true;
+        }
+        boolean available;
+        try {
+            available = entry.response.isAvailable();
+        } catch (JAXRException x) {
+            available = true;
+        }
+        if (available) {
+            markAvailable(entry, now);
+        }
+        return available;
+    }
+
+    private void markAvailable(Entry entry, long now) {
+        if (entry.available.get()) {
+            return;
+        }
+        entry.availableSince = now;
+        if (entry.available.compareAndSet(false, true)) {
+            expiring.offer(entry);
+            if (entries.get(entry.requestId) != entry) {
+                // claimed while it was being computed
+                expiring.remove(entry);
+            }
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return entry.available.get() && now - entry.availableSince >= ttlNanos;
+    }
+
+    private boolean evict(Entry entry) {
+        if (entries.remove(entry.requestId, entry)) {
+            size.decrementAndGet();
+            evicted.incrementAndGet();
+            forget(entry);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes an entry that is no longer tracked from both queues, so
+     * that neither grows with responses already claimed or evicted.
+     */
+    private void forget(Entry entry) {
+        order.remove(entry);
+        expiring.remove(entry);
+    }
+
+    private static final class Entry {
+        final String requestId;
+        final BulkResponse response;
+        final AtomicBoolean available = new AtomicBoolean();
+        volatile long availableSince;
+
+        Entry(String requestId, BulkResponse response) {
+            this.requestId = requestId;
+            this.response = response;
+        }
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry.spi;
+
+import java.util.concurrent.*;
+
+/**
+ * Keeps requests away from a member of a federation that is failing or
+ * overloaded, and gives its requests a timeout adapted to its observed
+ * latency.
+ * <p>
+ * The breaker is <i>closed</i> while the member is healthy. It counts
+ * the outcomes of the most recent requests; a request fails if it throws,
+ * times out, or takes longer than the slow call threshold. Once enough
+ * requests have been made and the failure rate reaches the threshold, the
+ * breaker <i>opens</i>, and requests to the member are refused at once
+ * for the open duration. The breaker then becomes <i>half-open</i> and
+ * lets one trial request through: if it succeeds the breaker closes,
+ * otherwise it opens again. Only the outcome of the trial request decides;
+ * requests let through before the breaker opened, and completing late,
+ * are not counted in the new state.
+ * <p>
+ * Each request let through is given a {@link Permit}, on which its outcome
+ * is reported.
+ * <p>
+ * The adaptive timeout, when enabled, is a multiple of a high percentile
+ * of the latencies of recent requests, kept between a minimum and a
+ * maximum. A request that times out counts with the time it was given,
+ * so a member that slows down past its timeout pushes the percentile, and
+ * thus its timeout, up. One that hangs is given up on after a time that
+ * fits its usual latency rather than after a fixed worst case.
+ * <p>
+ * A CircuitBreaker is thread-safe.
+ *
+ * @see FederatedQueryExecutor#getCircuitBreaker(int)
+ */
+public class CircuitBreaker {
+
+    /**
+     * The state of a CircuitBreaker.
+     */
+    public enum State {
+        /** Requests are let through and their outcomes counted. */
+        CLOSED,
+        /** Requests are refused. */
+        OPEN,
+        /** One trial request is let through. */
+        HALF_OPEN
+    }
+
+    private State state = State.CLOSED;
+    private boolean[] outcomes = new boolean[20];
+    private int next;
+    private int calls;
+    private int failures;
+    private int minimumCalls = 10;
+    private double failureRateThreshold = 0.5;
+    private long slowCallThreshold = Long.MAX_VALUE;
+    private long openDuration = TimeUnit.SECONDS.toNanos(30);
+    private long openedAt;
+    private boolean trialInFlight;
+    /** Counts the state changes, so that late outcomes can be told apart. */
+    private int epoch;
+
+    private LatencyWindow latencies;
+    private double timeoutMultiplier;
+    private long minTimeout;
+    private long maxTimeout;
+
+    /**
+     * Creates a closed CircuitBreaker that opens when half of the last 20
+     * requests, and at least 10, have failed, stays open for 30 seconds,
+     * and has no adaptive timeout.
+     */
+    public CircuitBreaker() {
+    }
+
+    /**
+     * Sets the number of recent requests whose outcomes are counted, and
+     * the number of them needed before the breaker may open.
+     *
+     * @param windowSize the number of requests counted
+     * @param minimumCalls the number of requests needed to open the breaker
+     */
+    public synchronized void setWindow(int windowSize, int minimumCalls) {
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException(windowSize + ", " + minimumCalls);
+        }
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        reset();
+    }
+
+    /**
+     * Sets the failure rate at which the breaker opens.
+     *
+     * @param failureRateThreshold a rate between 0 exclusive and 1 inclusive
+     */
+    public synchronized void setFailureRateThreshold(double failureRateThreshold) {
+        if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+            throw new IllegalArgumentException(String.valueOf(failureRateThreshold));
+        }
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    /**
+     * Sets the latency above which a successful request counts as failed.
+     * By default no request is too slow.
+     *
+     * @param threshold the slow call threshold
+     * @param unit the unit of <code>threshold</code>
+     */
+    public synchronized void setSlowCallThreshold(long threshold, TimeUnit unit) {
+        this.slowCallThreshold = unit.toNanos(threshold);
+    }
+
+    /**
+     * Sets how long the breaker stays open before letting a trial request
+     * through.
+     *
+     * @param duration the open duration
+     * @param unit the unit of <code>duration</code>
+     */
+    public synchronized void setOpenDuration(long duration, TimeUnit unit) {
+        this.openDuration = unit.toNanos(duration);
+    }
+
+    /**
+     * Enables the adaptive timeout. Until enough latencies have been
+     * recorded, the maximum timeout is used.
+     *
+     * @param percentile the percentile of recent latencies the timeout is based on, such as 99
+     * @param multiplier the factor applied to the percentile
+     * @param min the smallest timeout
+     * @param max the largest timeout
+     * @param unit the unit of <code>min</code> and <code>max</code>
+     */
+    public synchronized void setAdaptiveTimeout(double percentile,
+    double multiplier, long min, long max, TimeUnit unit) {
+        if (!(multiplier >= 1) || min < 0 || max < min) {
+            throw new IllegalArgumentException(multiplier + ", " + min + ", " + max);
+        }
+        this.latencies = new LatencyWindow(percentile);
+        this.timeoutMultiplier = multiplier;
+        this.minTimeout = unit.toNanos(min);
+        this.maxTimeout = unit.toNanos(max);
+    }
+
+    /**
+     * Gets the timeout for the next request.
+     *
+     * @param unit the unit of the result
+     * @return the timeout, or -1 if the adaptive timeout is not enabled
+     */
+    public synchronized long getTimeout(TimeUnit unit) {
+        if (latencies == null) {
+            return -1;
+        }
+        long p = latencies.get();
+        long timeout = (p < 0) ? maxTimeout : Math.max(minTimeout,
+            Math.min(maxTimeout, (long) (p * timeoutMultiplier)));
+        return unit.convert(timeout, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the current state of the breaker.
+     *
+     * @return the state
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDuration) {
+            state = State.HALF_OPEN;
+            epoch++;
+        }
+        return state;
+    }
+
+    /**
+     * Asks to make a request. Every request let through must be followed
+     * by a call to one of the methods of its Permit.
+     *
+     * @return the Permit of the request, or <code>null</code> if the
+     *         member is to be skipped
+     */
+    public synchronized Permit tryAcquire() {
+        switch (getState()) {
+            case CLOSED:
+                return new Permit(epoch, false);
+            case HALF_OPEN:
+                if (trialInFlight) {
+                    return null;
+                }
+                trialInFlight = true;
+                return new Permit(epoch, true);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * The right to make one request, on which its outcome is reported.
+     * Only the first report counts.
+     */
+    public final class Permit {
+        private final int epoch;
+        private final boolean trial;
+        private boolean done;
+
+        Permit(int epoch, boolean trial) {
+            this.epoch = epoch;
+            this.trial = trial;
+        }
+
+        /**
+         * Records that the request succeeded.
+         *
+         * @param latency the time the request took
+         * @param unit the unit of <code>latency</code>
+         */
+        public void onSuccess(long latency, TimeUnit unit) {
+            synchronized (CircuitBreaker.this) {
+                if (!finish()) {
+                    return;
+                }
+                long nanos = unit.toNanos(latency);
+                if (latencies != null) {
+                    latencies.record(nanos);
+                }
+                record(this, nanos <= slowCallThreshold);
+            }
+        }
+
+        /**
+         * Records that the request failed.
+         */
+        public void onFailure() {
+            synchronized (CircuitBreaker.this) {
+                if (finish()) {
+                    record(this, false);
+                }
+            }
+        }
+
+        /**
+         * Records that the request timed out. It counts as a failure, and
+         * the time it was given counts as a latency for the adaptive
+         * timeout, since the request took at least that long.
+         *
+         * @param elapsed the time from the start of the request to the timeout
+         * @param unit the unit of <code>elapsed</code>
+         */
+        public void onTimeout(long elapsed, TimeUnit unit) {
+            synchronized (CircuitBreaker.this) {
+                if (!finish()) {
+                    return;
+                }
+                if (latencies != null) {
+                    latencies.record(unit.toNanos(elapsed));
+                }
+                record(this, false);
+            }
+        }
+
+        /**
+         * Records that the request was cancelled before it completed,
+         * which counts neither as a success nor as a failure.
+         */
+        public void onCancel() {
+            synchronized (CircuitBreaker.this) {
+                if (finish() && trial && epoch == CircuitBreaker.this.epoch) {
+                    trialInFlight = false;
+                }
+            }
+        }
+
+        private boolean finish() {
+            if (done) {
+                return false;
+            }
+            done = true;
+            return true;
+        }
+    }
+
+    private void record(Permit permit, boolean success) {
+        if (permit.epoch != epoch) {
+            // let through in an earlier state; says nothing about this one
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            if (!permit.trial) {
+                return;
+            }
+            trialInFlight = false;
+            if (success) {
+                state = State.CLOSED;
+                epoch++;
+                reset();
+            } else {
+                open();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return;
+        }
+        if (calls == outcomes.length) {
+            if (!outcomes[next]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+        outcomes[next] = success;
+        next = (next + 1) % outcomes.length;
+        if (!success) {
+            failures++;
+        }
+        if (calls >= minimumCalls &&
+            failures >= failureRateThreshold * calls) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        epoch++;
+        openedAt = System.nanoTime();
+        reset();
+    }
+
+    private void reset() {
+        next = 0;
+        calls = 0;
+        failures = 0;
+    }
+
+    public synchronized String toString() {
+        return "CircuitBreaker[" + getState() + ", " + failures + "/" +
+            calls + " failed]";
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry.spi;
+
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Drops the objects of a federated result that have already been seen,
+ * as it is merged. Objects are the same if their Keys have the same id;
+ * Concepts are also the same if they were declared semantically
+ * equivalent in the connection configuration. The first copy, in merge
+ * order, is kept. Objects without a Key are always kept.
+ */
+final class Deduplicator {
+
+    private final ConnectionConfiguration configuration;
+    private final KeySet seen = new KeySet();
+
+    /**
+     * @param configuration the configuration declaring equivalent Concepts,
+     *        or <code>null</code>
+     */
+    Deduplicator(ConnectionConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * @return <code>true</code> if the object is kept
+     */
+    boolean accept(Object o) throws JAXRException {
+        if (!(o instanceof RegistryObject)) {
+            return true;
+        }
+        Key key = ((RegistryObject) o).getKey();
+        String id = (key != null) ? key.getId() : null;
+        if (id == null) {
+            return true;
+        }
+        if (configuration != null && o instanceof Concept) {
+            id = configuration.getEquivalentConceptId(id);
+        }
+        return seen.add(id);
+    }
+}
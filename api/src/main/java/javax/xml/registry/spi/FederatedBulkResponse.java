@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry.spi;
+
+import java.util.*;
+
+import javax.xml.registry.*;
+
+/**
+ * The BulkResponse gathered from the members of a federation.
+ */
+final class FederatedBulkResponse implements BulkResponse {
+
+    private final String requestId;
+    private final Collection collection;
+    private final Collection exceptions;
+    private final boolean partial;
+    private final int status;
+
+    FederatedBulkResponse(String requestId, Collection collection,
+    Collection exceptions, boolean partial, int status) {
+        this.requestId = requestId;
+        this.collection = collection;
+        this.exceptions = (exceptions == null || exceptions.isEmpty()) ?
+            null : exceptions;
+        this.partial = partial;
+        this.status = status;
+    }
+
+    public Collection getCollection() {
+        return collection;
+    }
+
+    public Collection getExceptions() {
+        return exceptions;
+    }
+
+    public boolean isPartialResponse() {
+        return partial;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public boolean isAvailable() {
+        return true;
+    }
+}
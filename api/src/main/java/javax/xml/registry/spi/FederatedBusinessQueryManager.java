@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry.spi;
+
+import java.util.*;
+
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * A BusinessQueryManager for a FederatedConnection that runs each query
+ * on all member Connections in parallel with a FederatedQueryExecutor.
+ * <p>
+ * The find methods and the getRegistryObjects methods return the results
+ * of all members, merged as described in
+ * {@link FederatedQueryExecutor#scatter}. The methods that return a single
+ * object return the first one found by any member.
+ * <p>
+ * If the members mirror the same content, a {@link HedgingPolicy} can be
+ * set. Each query then goes to one member, and is hedged to another only
+ * if the first is slow to answer.
+ * <p>
+ * If the members each hold part of the objects and the executor has a
+ * {@link KeyRouter}, getRegistryObject and getRegistryObjects with Keys
+ * only ask the members that own the Keys.
+ * <p>
+ * If the configuration of the executor sets maxRows, a find method with a
+ * sort find qualifier returns only the first maxRows objects, with
+ * {@link FederatedQueryExecutor#topK}.
+ */
+public class FederatedBusinessQueryManager implements BusinessQueryManager {
+
+    private final FederatedQueryExecutor executor;
+    private final RegistryService registryService;
+    private volatile HedgingPolicy hedgingPolicy;
+
+    /**
+     * Creates a FederatedBusinessQueryManager.
+     *
+     * @param executor the FederatedQueryExecutor over the members
+     * @param registryService the RegistryService of the FederatedConnection
+     */
+    public FederatedBusinessQueryManager(FederatedQueryExecutor executor,
+    RegistryService registryService) {
+        if (executor == null) {
+            throw new NullPointerException();
+        }
+        this.executor = executor;
+        this.registryService = registryService;
+    }
+
+    /**
+     * Gets the FederatedQueryExecutor that runs the queries.
+     *
+     * @return the FederatedQueryExecutor
+     */
+    public FederatedQueryExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the HedgingPolicy used to query members that mirror the same
+     * content, or <code>null</code> to query all members and merge their
+     * results, which is the default.
+     *
+     * @param hedgingPolicy the HedgingPolicy, or <code>null</code>
+     */
+    public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = hedgingPolicy;
+    }
+
+    /**
+     * Gets the HedgingPolicy used to query the members.
+     *
+     * @return the HedgingPolicy, or <code>null</code> if none is set
+     */
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    public BulkResponse findAssociations(final Collection findQualifiers,
+    final String sourceObjectId, final String targetObjectId,
+    final Collection associationTypes) throws JAXRException {
+        return query(findQualifiers, bqm -> bqm.findAssociations(
+            findQualifiers, sourceObjectId, targetObjectId, associationTypes));
+    }
+
+    public BulkResponse findCallerAssociations(final Collection findQualifiers,
+    final Boolean confirmedByCaller, final Boolean confirmedByOtherParty,
+    final Collection associationTypes) throws JAXRException {
+        return query(findQualifiers, bqm ->
+            bqm.findCallerAssociations(findQualifiers, confirmedByCaller,
+                confirmedByOtherParty, associationTypes));
+    }
+
+    public BulkResponse findOrganizations(final Collection findQualifiers,
+    final Collection namePatterns, final Collection classifications,
+    final Collection specifications, final Collection externalIdentifiers,
+    final Collection externalLinks) throws JAXRException {
+        return query(findQualifiers, bqm -> bqm.findOrganizations(
+            findQualifiers, namePatterns, classifications, specifications,
+            externalIdentifiers, externalLinks));
+    }
+
+    public BulkResponse findServices(final Key orgKey,
+    final Collection findQualifiers, final Collection namePatterns,
+    final Collection classifications, final Collection specifications)
+    throws JAXRException {
+        return query(findQualifiers, bqm -> bqm.findServices(
+            orgKey, findQualifiers, namePatterns, classifications,
+            specifications));
+    }
+
+    public BulkResponse findServiceBindings(final Key serviceKey,
+    final Collection findQualifiers, final Collection classifications,
+    final Collection specifications) throws JAXRException {
+        return query(findQualifiers, bqm -> bqm.findServiceBindings(
+            serviceKey, findQualifiers, classifications, specifications));
+    }
+
+    public BulkResponse findClassificationSchemes(
+    final Collection findQualifiers, final Collection namePatterns,
+    final Collection classifications, final Collection externalLinks)
+    throws JAXRException {
+        return query(findQualifiers, bqm ->
+            bqm.findClassificationSchemes(findQualifiers, namePatterns,
+                classifications, externalLinks));
+    }
+
+    public ClassificationScheme findClassificationSchemeByName(
+    final Collection findQualifiers, final String namePattern)
+    throws JAXRException {
+        return lookup(bqm ->
+            bqm.findClassificationSchemeByName(findQualifiers, namePattern));
+    }
+
+    public BulkResponse findConcepts(final Collection findQualifiers,
+    final Collection namePatterns, final Collection classifications,
+    final Collection externalIdentifiers, final Collection externalLinks)
+    throws JAXRException {
+        return query(findQualifiers, bqm -> bqm.findConcepts(
+            findQualifiers, namePatterns, classifications,
+            externalIdentifiers, externalLinks));
+    }
+
+    public Concept findConceptByPath(final String path) throws JAXRException {
+        return lookup(bqm -> bqm.findConceptByPath(path));
+    }
+
+    public BulkResponse findRegistryPackages(final Collection findQualifiers,
+    final Collection namePatterns, final Collection classifications,
+    final Collection externalLinks) throws JAXRException {
+        return query(findQualifiers, bqm -> bqm.findRegistryPackages(
+            findQualifiers, namePatterns, classifications, externalLinks));
+    }
+
+    public RegistryObject getRegistryObject(final String id,
+    final String objectType) throws JAXRException {
+        return lookup(id, bqm -> bqm.getRegistryObject(id, objectType));
+    }
+
+    public RegistryObject getRegistryObject(final String id)
+    throws JAXRException {
+        return lookup(id, bqm -> bqm.getRegistryObject(id));
+    }
+
+    public BulkResponse getRegistryObjects(final Collection objectKeys)
+    throws JAXRException {
+        if (executor.getKeyRouter() != null) {
+            return executor.scatterByKey(objectKeys,
+                (bqm, keys) -> bqm.getRegistryObjects(keys));
+        }
+        return query(null, bqm -> bqm.getRegistryObjects(objectKeys));
+    }
+
+    public BulkResponse getRegistryObjects(final Collection objectKeys,
+    final String objectTypes) throws JAXRException {
+        if (executor.getKeyRouter() != null) {
+            return executor.scatterByKey(objectKeys,
+                (bqm, keys) -> bqm.getRegistryObjects(keys, objectTypes));
+        }
+        return query(null, bqm ->
+            bqm.getRegistryObjects(objectKeys, objectTypes));
+    }
+
+    public BulkResponse getRegistryObjects() throws JAXRException {
+        return query(null, bqm -> bqm.getRegistryObjects());
+    }
+
+    public BulkResponse getRegistryObjects(final String objectType)
+    throws JAXRException {
+        return query(null, bqm -> bqm.getRegistryObjects(objectType));
+    }
+
+    public RegistryService getRegistryService() {
+        return registryService;
+    }
+
+    private BulkResponse query(Collection findQualifiers,
+    FederatedQueryExecutor.MemberQuery<BulkResponse> query)
+    throws JAXRException {
+        HedgingPolicy policy = hedgingPolicy;
+        if (policy != null) {
+            return executor.hedge(policy, query);
+        }
+        ConnectionConfiguration configuration =
+            executor.getConnectionConfiguration();
+        int maxRows = (configuration != null) ? configuration.getMaxRows() : -1;
+        FindQualifierSet qualifiers = FindQualifierSet.of(findQualifiers);
+        if (maxRows >= 0 && qualifiers.hasAny(FindQualifierSet.SORT_FLAGS)) {
+            return executor.topK(qualifiers, maxRows, query);
+        }
+        return executor.scatter(qualifiers, query);
+    }
+
+    private <T> T lookup(String id, FederatedQueryExecutor.MemberQuery<T> query)
+    throws JAXRException {
+        if (executor.getKeyRouter() != null) {
+            return executor.route(id, query);
+        }
+        return lookup(query);
+    }
+
+    private <T> T lookup(FederatedQueryExecutor.MemberQuery<T> query)
+    throws JAXRException {
+        HedgingPolicy policy = hedgingPolicy;
+        return (policy != null) ? executor.hedge(policy, query) :
+            executor.first(query);
+    }
+}
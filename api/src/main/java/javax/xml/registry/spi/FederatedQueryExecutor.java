@@ -0,0 +1,866 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry.spi;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Runs queries across the member Connections of a FederatedConnection.
+ * <p>
+ * {@link #scatter} sends a query to every member at the same time and
+ * gathers their BulkResponses into one. If the query has sort find
+ * qualifiers, the results, which each member returns sorted, are merged
+ * in the requested order; otherwise they are concatenated in member
+ * order. An object returned by several members, identified by the id of
+ * its Key, is returned once, as it appears first in that order.
+ * <p>
+ * A member that fails, or does not answer before the current
+ * {@link Deadline}, contributes its exception to getExceptions() and
+ * makes the response partial, and the results of the other members are
+ * still returned. If the client has set no Deadline, the request timeout
+ * of the connection configuration applies, or else
+ * {@link #DEFAULT_REQUEST_TIMEOUT}, so that a member that hangs cannot
+ * block a query for ever.
+ * <p>
+ * {@link #first} sends a lookup to every member and returns the first
+ * result found, for objects that only one member is expected to hold.
+ * <p>
+ * {@link #hedge} is for members that mirror the same content: it sends a
+ * request to one member, and to another only if the first is slow to
+ * answer, as decided by a {@link HedgingPolicy}.
+ * <p>
+ * {@link #route} and {@link #scatterByKey} are for members that each
+ * hold part of the objects: they send lookups by Key only to the members
+ * that own the Keys, as given by a {@link KeyRouter}.
+ * <p>
+ * Every member query runs on the Executor, so a scatter over <i>n</i>
+ * members takes <i>n</i> of its threads, and the calling thread only
+ * waits for them until the Deadline. A member query that is no longer
+ * needed, because it timed out or another member answered first, has its
+ * thread interrupted. A provider whose calls do not respond to interruption keeps
+ * the thread until the call returns by itself.
+ * <p>
+ * Each member has a {@link CircuitBreaker}. A member whose breaker is
+ * open is skipped and reported in getExceptions(), so that a dead member
+ * makes responses partial rather than slow. If the breaker has an
+ * adaptive timeout, a member that does not answer within it fails with a
+ * RequestTimeoutException, which counts against the member. A query cut
+ * short by the Deadline of the request before that does not.
+ * <p>
+ * The lookups of {@link #route} and {@link #scatterByKey} run on the
+ * Executor too, so that an owner that hangs is given up on when its
+ * timeout passes and the lookup goes on to the next owner.
+ *
+ * @see FederatedBusinessQueryManager
+ */
+public class FederatedQueryExecutor {
+
+    /**
+     * The time in milliseconds in which a query must complete when neither
+     * the client nor the connection configuration gives one.
+     */
+    public static final long DEFAULT_REQUEST_TIMEOUT = 60000;
+
+    /**
+     * A query sent to one member.
+     *
+     * @param <T> the result type of the query
+     */
+    public interface MemberQuery<T> {
+        /**
+         * Runs the query against a member.
+         *
+         * @param bqm the BusinessQueryManager of the member
+         * @return the result of the member
+         * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+         */
+        T query(BusinessQueryManager bqm) throws JAXRException;
+    }
+
+    /**
+     * A lookup of a group of Keys sent to one member.
+     */
+    public interface KeysQuery {
+        /**
+         * Runs the lookup against a member.
+         *
+         * @param bqm the BusinessQueryManager of the member
+         * @param objectKeys the Keys owned by the member
+         * @return the response of the member
+         * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+         */
+        BulkResponse query(BusinessQueryManager bqm, Collection objectKeys)
+        throws JAXRException;
+    }
+
+    private final List<Connection> members;
+    private final Executor executor;
+    private final CircuitBreaker[] breakers;
+    private volatile boolean deduplicating = true;
+    private volatile ConnectionConfiguration configuration;
+    private volatile KeyRouter keyRouter;
+    private volatile long requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+
+    /**
+     * Creates a FederatedQueryExecutor.
+     *
+     * @param connections the member Connections, in order of preference
+     * @param executor the Executor that runs the queries of the members
+     */
+    public FederatedQueryExecutor(Collection connections, Executor executor) {
+        if (connections == null || executor == null) {
+            throw new NullPointerException();
+        }
+        List<Connection> list = new ArrayList<Connection>(connections.size());
+        for (Object connection : connections) {
+            list.add((Connection) connection);
+        }
+        if (list.isEmpty()) {
+            throw new IllegalArgumentException("No member connections");
+        }
+        this.members = Collections.unmodifiableList(list);
+        this.executor = executor;
+        this.breakers = new CircuitBreaker[list.size()];
+        for (int i = 0; i < breakers.length; i++) {
+            breakers[i] = new CircuitBreaker();
+        }
+    }
+
+    /**
+     * Gets the member Connections.
+     *
+     * @return an unmodifiable List of the member Connections
+     */
+    public List<Connection> getMembers() {
+        return members;
+    }
+
+    /**
+     * Sets whether an object returned by several members is returned only
+     * once by {@link #scatter}. This is the default.
+     *
+     * @param deduplicating <code>true</code> to drop copies of objects
+     */
+    public void setDeduplicating(boolean deduplicating) {
+        this.deduplicating = deduplicating;
+    }
+
+    /**
+     * Determines whether an object returned by several members is
+     * returned only once.
+     *
+     * @return <code>true</code> if copies of objects are dropped
+     */
+    public boolean isDeduplicating() {
+        return deduplicating;
+    }
+
+    /**
+     * Sets the configuration of the FederatedConnection, whose semantic
+     * equivalences make equivalent Concepts count as copies of one
+     * another when deduplicating.
+     *
+     * @param configuration the configuration, or <code>null</code>
+     */
+    public void setConnectionConfiguration(ConnectionConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Gets the configuration of the FederatedConnection.
+     *
+     * @return the configuration, or <code>null</code> if none is set
+     */
+    public ConnectionConfiguration getConnectionConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Sets the time in which a query must complete when the client has set
+     * no Deadline and the connection configuration has no request timeout.
+     * The default is {@link #DEFAULT_REQUEST_TIMEOUT}.
+     *
+     * @param timeout the request timeout, or -1 to wait as long as the
+     *        members take
+     * @param unit the unit of <code>timeout</code>
+     */
+    public void setRequestTimeout(long timeout, TimeUnit unit) {
+        requestTimeout = (timeout < 0) ? -1 : unit.toMillis(timeout);
+    }
+
+    /**
+     * Sets the KeyRouter that tells which members own a Key id, for a
+     * federation whose members each hold part of the objects.
+     *
+     * @param keyRouter the KeyRouter, or <code>null</code> if every member
+     *        may hold any object
+     * @throws IllegalArgumentException if the KeyRouter has a member index
+     *         that is not one of the members. Once set, the KeyRouter
+     *         rejects such indices in addMember.
+     * @see #route(String, FederatedQueryExecutor.MemberQuery)
+     * @see #scatterByKey(Collection, FederatedQueryExecutor.KeysQuery)
+     */
+    public void setKeyRouter(KeyRouter keyRouter) {
+        if (keyRouter != null) {
+            keyRouter.bind(members.size());
+        }
+        this.keyRouter = keyRouter;
+    }
+
+    /**
+     * Gets the KeyRouter that tells which members own a Key id.
+     *
+     * @return the KeyRouter, or <code>null</code> if none is set
+     */
+    public KeyRouter getKeyRouter() {
+        return keyRouter;
+    }
+
+    /**
+     * Gets the CircuitBreaker of a member, which can be used to change its
+     * settings or to read its state.
+     *
+     * @param member the index of the member in {@link #getMembers()}
+     * @return the CircuitBreaker of the member
+     */
+    public CircuitBreaker getCircuitBreaker(int member) {
+        return breakers[member];
+    }
+
+    /**
+     * Gets the Executor that runs the queries of the members.
+     *
+     * @return the Executor
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sends a query to every member and gathers the results.
+     *
+     * @param findQualifiers the find qualifiers of the query, whose sort
+     *        qualifiers determine how the results are merged
+     * @param query the query
+     * @return the gathered BulkResponse
+     * @throws InvalidRequestException	If the find qualifiers contradict each other
+     * @throws JAXRException	If the calling thread is interrupted
+     */
+    public BulkResponse scatter(Collection findQualifiers,
+    MemberQuery<BulkResponse> query) throws JAXRException {
+        SortedMerge merge = SortedMerge.forQualifiers(
+            FindQualifierSet.of(findQualifiers));
+        Deadline deadline = requestDeadline();
+        int n = members.size();
+        List<CompletableFuture<BulkResponse>> futures =
+            new ArrayList<CompletableFuture<BulkResponse>>(n);
+        for (int i = 0; i < n; i++) {
+            futures.add(new CompletableFuture<BulkResponse>());
+        }
+        for (int i = 0; i < n; i++) {
+            start(i, query, deadline, futures.get(i));
+        }
+        int[] memberOf = new int[n];
+        for (int i = 0; i < n; i++) {
+            memberOf[i] = i;
+        }
+        return gather(futures, memberOf, merge, deadline, -1);
+    }
+
+    /**
+     * Gathers the responses of the members into one.
+     *
+     * @param memberOf the index of the member of each future
+     * @param merge the merge of sorted results, or <code>null</code> to
+     *        concatenate them
+     * @param limit the number of objects wanted, which are read page by
+     *        page from each member, or -1 to read the first page of each
+     *        member in full
+     */
+    private BulkResponse gather(List<CompletableFuture<BulkResponse>> futures,
+    int[] memberOf, SortedMerge merge, Deadline deadline, int limit)
+    throws JAXRException {
+        int n = futures.size();
+        List<ResultStream> runs = new ArrayList<ResultStream>(n);
+        List<JAXRException> exceptions = new ArrayList<JAXRException>();
+        boolean partial = false;
+        int answered = 0;
+        for (int i = 0; i < n; i++) {
+            try {
+                BulkResponse response = await(futures.get(i), deadline,
+                    "Member " + memberOf[i] + " did not answer before the deadline");
+                runs.add((limit < 0) ? new ResultStream(response) :
+                    new ResultStream(response, limit));
+                Collection memberExceptions = response.getExceptions();
+                if (memberExceptions != null) {
+                    for (Object e : memberExceptions) {
+                        exceptions.add((JAXRException) e);
+                    }
+                }
+                partial |= response.isPartialResponse();
+                answered++;
+            } catch (JAXRException e) {
+                exceptions.add(e);
+                partial = true;
+            } catch (InterruptedException e) {
+                for (CompletableFuture<BulkResponse> f : futures) {
+                    f.cancel(true);
+                }
+                Thread.currentThread().interrupt();
+                throw new JAXRException(e);
+            }
+        }
+
+        Deduplicator dedup = deduplicating ?
+            new Deduplicator(configuration) : null;
+        int max = (limit < 0) ? Integer.MAX_VALUE : limit;
+        Collection collection;
+        try {
+            collection = (merge != null) ? merge.merge(runs, dedup, max) :
+                SortedMerge.concat(runs, dedup, max);
+            for (ResultStream run : runs) {
+                exceptions.addAll(run.getPageExceptions());
+                if (limit >= 0 && run.hasUnread()) {
+                    partial = true;
+                }
+            }
+        } finally {
+            if (limit >= 0) {
+                for (ResultStream run : runs) {
+                    run.close();
+                }
+            }
+        }
+        int status;
+        if (answered == 0) {
+            status = JAXRResponse.STATUS_FAILURE;
+        } else if (!exceptions.isEmpty()) {
+            status = JAXRResponse.STATUS_WARNING;
+        } else {
+            status = JAXRResponse.STATUS_SUCCESS;
+        }
+        return new FederatedBulkResponse(UUID.randomUUID().toString(),
+            collection, exceptions, partial, status);
+    }
+
+    /**
+     * Sends a lookup for an id only to the members that own it, as given
+     * by the KeyRouter: first to its primary owner, then, if that fails,
+     * to each replica in turn.
+     *
+     * @param <T> the result type of the lookup
+     * @param id the Key id looked up
+     * @param query the lookup
+     * @return the result of the first owner that answered
+     * @throws JAXRException	If every owner failed, or the current Deadline passed
+     * @throws IllegalStateException if no KeyRouter is set
+     */
+    public <T> T route(String id, MemberQuery<T> query) throws JAXRException {
+        int[] owners = router().route(id);
+        if (owners.length == 0) {
+            throw new JAXRException("No member owns " + id);
+        }
+        Deadline deadline = requestDeadline();
+        CompletableFuture<T> result = new CompletableFuture<T>();
+        failover(owners, 0, null, query, deadline, result);
+        try {
+            return await(result, deadline,
+                "No owner of " + id + " answered before the deadline");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JAXRException(e);
+        } finally {
+            result.cancel(true);
+        }
+    }
+
+    /**
+     * Sends a lookup for a batch of Keys to the members that own them, as
+     * given by the KeyRouter. The Keys are grouped by their owners, each
+     * group is sent in parallel to its primary owner, and a group whose
+     * owner fails is sent to its replicas in turn. The responses are
+     * gathered as by {@link #scatter}. A Key that no member owns, because
+     * the KeyRouter has no members, gets a JAXRException in the
+     * exceptions of the response.
+     *
+     * @param objectKeys a Collection of Key objects
+     * @param query the lookup of a group of Keys
+     * @return the gathered BulkResponse
+     * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+     * @throws IllegalStateException if no KeyRouter is set
+     */
+    public BulkResponse scatterByKey(Collection objectKeys,
+    final KeysQuery query) throws JAXRException {
+        KeyRouter router = router();
+        Map<String, int[]> ownersOf = new HashMap<String, int[]>();
+        Map<String, Collection<Object>> groups =
+            new LinkedHashMap<String, Collection<Object>>();
+        List<String> unowned = new ArrayList<String>();
+        for (Object key : objectKeys) {
+            String id = ((Key) key).getId();
+            int[] owners = router.route(id);
+            if (owners.length == 0) {
+                unowned.add(id);
+                continue;
+            }
+            String group = Arrays.toString(owners);
+            Collection<Object> keys = groups.get(group);
+            if (keys == null) {
+                keys = new ArrayList<Object>();
+                groups.put(group, keys);
+                ownersOf.put(group, owners);
+            }
+            keys.add(key);
+        }
+        Deadline deadline = requestDeadline();
+        int n = groups.size() + unowned.size();
+        List<CompletableFuture<BulkResponse>> futures =
+            new ArrayList<CompletableFuture<BulkResponse>>(n);
+        int[] memberOf = new int[n];
+        for (String id : unowned) {
+            CompletableFuture<BulkResponse> future =
+                new CompletableFuture<BulkResponse>();
+            future.completeExceptionally(
+                new JAXRException("No member owns " + id));
+            memberOf[futures.size()] = -1;
+            futures.add(future);
+        }
+        for (Map.Entry<String, Collection<Object>> e : groups.entrySet()) {
+            int[] owners = ownersOf.get(e.getKey());
+            final Collection<Object> keys = e.getValue();
+            CompletableFuture<BulkResponse> future =
+                new CompletableFuture<BulkResponse>();
+            memberOf[futures.size()] = owners[0];
+            futures.add(future);
+            failover(owners, 0, null, bqm -> query.query(bqm, keys),
+                deadline, future);
+        }
+        return gather(futures, memberOf, null, deadline, -1);
+    }
+
+    /**
+     * Sends a query to every member and returns only the first
+     * <code>k</code> objects of the merged result. Each member's response
+     * is read only as far as needed: the next page of a PagedBulkResponse
+     * is fetched only if the merge needs more of that member's objects,
+     * and at most <code>k</code> objects are read from any member. Once
+     * the <code>k</code>-th object is known, the member responses that are
+     * CancellableBulkResponses are cancelled. The response is partial if
+     * objects were left out.
+     * <p>
+     * Members should themselves return at most <code>k</code> objects per
+     * page, through their maxRows or pageSize connection properties, so
+     * that no member sends objects that cannot be in the result.
+     *
+     * @param findQualifiers the find qualifiers of the query, whose sort
+     *        qualifiers determine the order of the result
+     * @param k the number of objects wanted
+     * @param query the query
+     * @return the first <code>k</code> objects of the gathered BulkResponse
+     * @throws InvalidRequestException	If the find qualifiers contradict each other
+     * @throws JAXRException	If the calling thread is interrupted
+     */
+    public BulkResponse topK(Collection findQualifiers, int k,
+    MemberQuery<BulkResponse> query) throws JAXRException {
+        if (k < 0) {
+            throw new IllegalArgumentException("k: " + k);
+        }
+        SortedMerge merge = SortedMerge.forQualifiers(
+            FindQualifierSet.of(findQualifiers));
+        Deadline deadline = requestDeadline();
+        int n = members.size();
+        List<CompletableFuture<BulkResponse>> futures =
+            new ArrayList<CompletableFuture<BulkResponse>>(n);
+        int[] memberOf = new int[n];
+        for (int i = 0; i < n; i++) {
+            futures.add(new CompletableFuture<BulkResponse>());
+            memberOf[i] = i;
+        }
+        for (int i = 0; i < n; i++) {
+            start(i, query, deadline, futures.get(i));
+        }
+        return gather(futures, memberOf, merge, deadline, k);
+    }
+
+    /**
+     * Sends a lookup to every member and returns the first
+     * non-<code>null</code> result, without waiting for the other members.
+     *
+     * @param <T> the result type of the lookup
+     * @param query the lookup
+     * @return the first result found, or <code>null</code> if no member
+     *         found one
+     * @throws JAXRException	If no member found a result and a member
+     *         failed, or the current Deadline passed
+     */
+    public <T> T first(final MemberQuery<T> query) throws JAXRException {
+        final Deadline deadline = requestDeadline();
+        final int n = members.size();
+        final CompletableFuture<T> result = new CompletableFuture<T>();
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[n];
+        final AtomicReferenceArray<Throwable> failures =
+            new AtomicReferenceArray<Throwable>(n);
+        final CountDownLatch outstanding = new CountDownLatch(n);
+        for (int i = 0; i < n; i++) {
+            final int member = i;
+            CompletableFuture<T> f = new CompletableFuture<T>();
+            futures[i] = f;
+            f.whenComplete((value, failure) -> {
+                if (value != null) {
+                    result.complete(value);
+                } else if (failure != null) {
+                    failures.set(member, failure);
+                }
+                outstanding.countDown();
+                if (outstanding.getCount() == 0 && !result.isDone()) {
+                    Throwable first = null;
+                    for (int j = 0; j < n && first == null; j++) {
+                        first = failures.get(j);
+                    }
+                    if (first != null) {
+                        result.completeExceptionally(first);
+                    } else {
+                        result.complete(null);
+                    }
+                }
+            });
+            start(i, query, deadline, f);
+        }
+        try {
+            return await(result, deadline,
+                "No member found a result before the deadline");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JAXRException(e);
+        } finally {
+            for (CompletableFuture<?> f : futures) {
+                f.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Sends a request to the first member and, if it has not answered
+     * within the hedge delay of the given policy, to the next member too,
+     * as long as the hedge budget allows it. The first answer wins and
+     * the other requests are cancelled. If every member asked so far
+     * fails, the request goes to the next member at once, without waiting
+     * for the delay or using the budget.
+     * <p>
+     * This is only correct if the members hold the same content, so that
+     * any of them gives the answer the first would have given.
+     *
+     * @param <T> the result type of the request
+     * @param policy the HedgingPolicy of this group of members
+     * @param query the request
+     * @return the first answer
+     * @throws JAXRException	If every member asked failed, or the current
+     *         Deadline passed
+     */
+    public <T> T hedge(HedgingPolicy policy, MemberQuery<T> query)
+    throws JAXRException {
+        policy.onRequest();
+        HedgedCall<T> call = new HedgedCall<T>(policy, query,
+            requestDeadline());
+        call.startNext(false);
+        try {
+            return await(call.result, call.deadline,
+                "No member answered before the deadline");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JAXRException(e);
+        } finally {
+            call.cancel();
+        }
+    }
+
+    /**
+     * Runs a query on <code>owners[index]</code> and, if it fails, on the
+     * next owners, until one answers or all have failed.
+     */
+    private <T> void failover(final int[] owners, final int index,
+    final Throwable firstFailure, final MemberQuery<T> query,
+    final Deadline deadline, final CompletableFuture<T> result) {
+        if (result.isDone()) {
+            return;
+        }
+        CompletableFuture<T> attempt = new CompletableFuture<T>();
+        attempt.whenComplete((value, failure) -> {
+            if (failure == null) {
+                result.complete(value);
+            } else {
+                Throwable first = (firstFailure != null) ? firstFailure : failure;
+                if (index + 1 < owners.length && !result.isDone()) {
+                    failover(owners, index + 1, first, query, deadline,
+                        result);
+                } else {
+                    result.completeExceptionally(first);
+                }
+            }
+        });
+        result.whenComplete((value, failure) -> attempt.cancel(true));
+        start(owners[index], query, deadline, attempt);
+    }
+
+    private KeyRouter router() {
+        KeyRouter router = keyRouter;
+        if (router == null) {
+            throw new IllegalStateException("No KeyRouter");
+        }
+        return router;
+    }
+
+    /**
+     * The state of one hedged request.
+     */
+    private final class HedgedCall<T> {
+        final HedgingPolicy policy;
+        final MemberQuery<T> query;
+        final Deadline deadline;
+        final int maxAttempts;
+        final CompletableFuture<T> result = new CompletableFuture<T>();
+        final List<CompletableFuture<T>> attempts =
+            new ArrayList<CompletableFuture<T>>();
+        Throwable firstFailure;
+        int failed;
+        ScheduledFuture<?> timer;
+        long primaryStart;
+
+        HedgedCall(HedgingPolicy policy, MemberQuery<T> query,
+        Deadline deadline) {
+            this.policy = policy;
+            this.query = query;
+            this.deadline = deadline;
+            this.maxAttempts = Math.min(members.size(),
+                policy.getMaxHedges() + 1);
+        }
+
+        synchronized boolean startNext(boolean hedge) {
+            int member = attempts.size();
+            if (result.isDone() || member >= maxAttempts ||
+                (hedge && !policy.tryHedge())) {
+                return false;
+            }
+            if (member == 0) {
+                primaryStart = System.nanoTime();
+            }
+            final long start = primaryStart;
+            CompletableFuture<T> f = new CompletableFuture<T>();
+            attempts.add(f);
+            f.whenComplete((value, failure) -> {
+                if (failure == null) {
+                    // Measured from the start of the primary, whichever
+                    // attempt answers: a primary that loses to a hedge is
+                    // at least this slow, and is then cancelled, so its
+                    // own latency would never be sampled.
+                    if (result.complete(value)) {
+                        policy.recordLatency(System.nanoTime() - start,
+                            TimeUnit.NANOSECONDS);
+                    }
+                } else {
+                    failed(failure);
+                }
+            });
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            if (member + 1 < maxAttempts) {
+                timer = Timeouts.schedule(() -> startNext(true),
+                    policy.getHedgeDelay(TimeUnit.NANOSECONDS),
+                    TimeUnit.NANOSECONDS);
+            }
+            start(member, query, deadline, f);
+            return true;
+        }
+
+        private void failed(Throwable failure) {
+            boolean exhausted;
+            synchronized (this) {
+                if (firstFailure == null) {
+                    firstFailure = failure;
+                }
+                exhausted = ++failed == attempts.size() && !startNext(false);
+            }
+            if (exhausted) {
+                result.completeExceptionally(firstFailure);
+            }
+        }
+
+        synchronized void cancel() {
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            for (CompletableFuture<T> f : attempts) {
+                f.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Gets the Deadline of a query starting now.
+     */
+    private Deadline requestDeadline() {
+        ConnectionConfiguration c = configuration;
+        if (c != null && c.getRequestTimeout() >= 0) {
+            return c.getRequestDeadline();
+        }
+        Deadline deadline = Deadline.current();
+        long timeout = requestTimeout;
+        return (timeout < 0) ? deadline : Deadline.earliest(deadline,
+            Deadline.after(timeout, TimeUnit.MILLISECONDS));
+    }
+
+    private <T> void start(final int member, final MemberQuery<T> query,
+    Deadline deadline, final CompletableFuture<T> future) {
+        final CircuitBreaker breaker = breakers[member];
+        final CircuitBreaker.Permit permit = breaker.tryAcquire();
+        if (permit == null) {
+            future.completeExceptionally(new JAXRException("Member " + member +
+                " skipped because its circuit breaker is open"));
+            return;
+        }
+        final long start = System.nanoTime();
+        final long timeout = breaker.getTimeout(TimeUnit.NANOSECONDS);
+        future.whenComplete((value, failure) -> {
+            long elapsed = System.nanoTime() - start;
+            if (failure == null) {
+                permit.onSuccess(elapsed, TimeUnit.NANOSECONDS);
+            } else if (failure instanceof RequestTimeoutException) {
+                // Only the breaker's own timeout counts against the
+                // member; one that comes first is the client's Deadline.
+                if (timeout >= 0 && elapsed >= timeout) {
+                    permit.onTimeout(elapsed, TimeUnit.NANOSECONDS);
+                } else {
+                    permit.onCancel();
+                }
+            } else if (failure instanceof CancellationException) {
+                permit.onCancel();
+            } else {
+                permit.onFailure();
+            }
+        });
+        if (timeout >= 0) {
+            final ScheduledFuture<?> timer = Timeouts.schedule(() ->
+                future.completeExceptionally(new RequestTimeoutException(
+                    "Member " + member + " did not answer within " +
+                    TimeUnit.NANOSECONDS.toMillis(timeout) + " ms")),
+                timeout, TimeUnit.NANOSECONDS);
+            future.whenComplete((value, failure) -> timer.cancel(false));
+            deadline = Deadline.earliest(deadline,
+                Deadline.after(timeout, TimeUnit.NANOSECONDS));
+        }
+        final Deadline memberDeadline = deadline;
+        final Worker worker = new Worker();
+        future.whenComplete((value, failure) -> {
+            if (failure != null) {
+                worker.interrupt();
+            }
+        });
+        try {
+            executor.execute(() ->
+                run(member, query, memberDeadline, future, worker));
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(new JAXRException(
+                "Query for member " + member + " rejected", e));
+        }
+    }
+
+    /**
+     * Runs a member query.
+     *
+     * @param worker interrupts the thread if the query is no longer
+     *        needed
+     */
+    private <T> void run(int member, final MemberQuery<T> query,
+    Deadline deadline, CompletableFuture<T> future, Worker worker) {
+        if (future.isDone() || !worker.enter()) {
+            return;
+        }
+        try {
+            final BusinessQueryManager bqm = members.get(member)
+                .getRegistryService().getBusinessQueryManager();
+            T value = (deadline != null) ?
+                deadline.call(() -> query.query(bqm)) : query.query(bqm);
+            future.complete(value);
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        } finally {
+            worker.exit();
+            // do not leak a cancellation interrupt into the next task
+            Thread.interrupted();
+        }
+    }
+
+    /**
+     * The thread that runs a member query on the Executor, which is
+     * interrupted when the query is no longer needed.
+     */
+    private static final class Worker {
+        private Thread thread;
+        private boolean done;
+
+        synchronized boolean enter() {
+            if (done) {
+                return false;
+            }
+            thread = Thread.currentThread();
+            return true;
+        }
+
+        synchronized void exit() {
+            thread = null;
+            done = true;
+        }
+
+        synchronized void interrupt() {
+            done = true;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future, Deadline deadline,
+    String timeoutMessage) throws JAXRException, InterruptedException {
+        try {
+            if (deadline == null) {
+                return future.get();
+            }
+            return future.get(Math.max(0, deadline.remaining(
+                TimeUnit.NANOSECONDS)), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof JAXRException) {
+                throw (JAXRException) cause;
+            }
+            throw new JAXRException(cause);
+        } catch (TimeoutException e) {
+            RequestTimeoutException timeout =
+                new RequestTimeoutException(timeoutMessage);
+            future.completeExceptionally(timeout);
+            throw timeout;
+        } catch (CancellationException e) {
+            throw new JAXRException(e);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry.spi;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Decides when a request to a federation whose members mirror the same
+ * registry content is hedged, that is, sent again to another member
+ * because the first member is slow to answer.
+ * <p>
+ * The hedge delay is a percentile of the latencies of recent requests,
+ * such as the 95th, kept between a minimum and a maximum delay. So only
+ * the slowest requests are hedged, and they no longer wait for the
+ * slowest members.
+ * <p>
+ * Hedges are limited by a budget, given as a fraction of the requests
+ * made: with a ratio of 0.05, at most about one request in twenty is
+ * hedged, even when every member is slow. Unspent budget accumulates up
+ * to a small burst.
+ * <p>
+ * A HedgingPolicy is thread-safe and is meant to be shared by all
+ * requests to the same group of members.
+ *
+ * @see FederatedQueryExecutor#hedge(HedgingPolicy, FederatedQueryExecutor.MemberQuery)
+ */
+public class HedgingPolicy {
+
+    private static final long TOKEN = 1000;
+    private static final long MAX_TOKENS = 10 * TOKEN;
+
+    private final LatencyWindow latencies;
+    private final long tokensPerRequest;
+    private final AtomicLong tokens = new AtomicLong(TOKEN);
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private volatile long minDelay = TimeUnit.MILLISECONDS.toNanos(1);
+    private volatile long maxDelay = TimeUnit.SECONDS.toNanos(1);
+    private volatile int maxHedges = 1;
+
+    /**
+     * Creates a HedgingPolicy.
+     *
+     * @param percentile the percentile of recent latencies after which a
+     *        request is hedged, between 0 and 100 exclusive
+     * @param budgetRatio the largest fraction of requests that may be
+     *        hedged, between 0 and 1
+     */
+    public HedgingPolicy(double percentile, double budgetRatio) {
+        if (!(budgetRatio >= 0 && budgetRatio <= 1)) {
+            throw new IllegalArgumentException("budgetRatio: " + budgetRatio);
+        }
+        this.latencies = new LatencyWindow(percentile);
+        this.tokensPerRequest = Math.round(budgetRatio * TOKEN);
+    }
+
+    /**
+     * Sets the bounds of the hedge delay. Until enough latencies have been
+     * recorded, the maximum delay is used.
+     *
+     * @param min the smallest hedge delay
+     * @param max the largest hedge delay
+     * @param unit the unit of <code>min</code> and <code>max</code>
+     */
+    public void setDelayBounds(long min, long max, TimeUnit unit) {
+        if (min < 0 || max < min) {
+            throw new IllegalArgumentException(min + ", " + max);
+        }
+        minDelay = unit.toNanos(min);
+        maxDelay = unit.toNanos(max);
+    }
+
+    /**
+     * Sets the largest number of hedges sent for one request. The default
+     * is 1.
+     *
+     * @param maxHedges the largest number of hedges per request
+     */
+    public void setMaxHedges(int maxHedges) {
+        if (maxHedges < 0) {
+            throw new IllegalArgumentException("maxHedges: " + maxHedges);
+        }
+        this.maxHedges = maxHedges;
+    }
+
+    /**
+     * Gets the largest number of hedges sent for one request.
+     *
+     * @return the largest number of hedges per request
+     */
+    public int getMaxHedges() {
+        return maxHedges;
+    }
+
+    /**
+     * Gets the time after which a request that has not been answered is
+     * hedged.
+     *
+     * @param unit the unit of the result
+     * @return the hedge delay
+     */
+    public long getHedgeDelay(TimeUnit unit) {
+        long p = latencies.get();
+        long delay = (p < 0) ? maxDelay :
+            Math.max(minDelay, Math.min(maxDelay, p));
+        return unit.convert(delay, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the latency of an answered request. For a hedged request
+     * this is the time from sending the first attempt, so that slow first
+     * members keep the percentile up even when a hedge answers for them.
+     *
+     * @param latency the time from sending the request to its answer
+     * @param unit the unit of <code>latency</code>
+     */
+    public void recordLatency(long latency, TimeUnit unit) {
+        latencies.record(unit.toNanos(latency));
+    }
+
+    /**
+     * Records that a request is made, which adds to the hedge budget.
+     */
+    public void onRequest() {
+        requests.incrementAndGet();
+        long t;
+        do {
+            t = tokens.get();
+            if (t >= MAX_TOKENS) {
+                return;
+            }
+        } while (!tokens.compareAndSet(t, Math.min(MAX_TOKENS, t + tokensPerRequest)));
+    }
+
+    /**
+     * Takes one hedge from the budget, if the budget allows it.
+     *
+     * @return <code>true</code> if a hedge may be sent
+     */
+    public boolean tryHedge() {
+        long t;
+        do {
+            t = tokens.get();
+            if (t < TOKEN) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(t, t - TOKEN));
+        hedges.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Gets the number of requests made.
+     *
+     * @return the number of requests
+     */
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * Gets the number of hedges sent.
+     *
+     * @return the number of hedges
+     */
+    public long getHedgeCount() {
+        return hedges.get();
+    }
+}
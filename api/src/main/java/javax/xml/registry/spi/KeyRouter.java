@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry.spi;
+
+import java.util.*;
+
+/**
+ * Maps Key ids to the members of a partitioned federation that own them,
+ * with consistent hashing.
+ * <p>
+ * Each member is placed on a hash ring at a number of points, its
+ * virtual nodes, derived from a stable name such as the URL of its
+ * registry. An id is owned by the members of the first points found
+ * clockwise from the hash of the id: the first is its primary owner, and
+ * the next distinct members, up to the replication factor, hold its
+ * replicas. When a member joins or leaves, only the ids next to its
+ * points change owner, which is about 1/<i>n</i> of the ids for
+ * <i>n</i> members.
+ * <p>
+ * Routing does not lock: members are added and removed by replacing the
+ * ring, so a KeyRouter can be changed while it is in use.
+ *
+ * @see FederatedQueryExecutor#setKeyRouter(KeyRouter)
+ */
+public class KeyRouter {
+
+    /**
+     * The points of the ring, sorted by hash.
+     */
+    private static final class Ring {
+        final long[] hashes;
+        final int[] members;
+        final int memberCount;
+
+        Ring(long[] hashes, int[] members, int memberCount) {
+            this.hashes = hashes;
+            this.members = members;
+            this.memberCount = memberCount;
+        }
+    }
+
+    private final int virtualNodes;
+    private final int replicationFactor;
+    private final Map<Integer, String> names = new HashMap<Integer, String>();
+    private volatile Ring ring = new Ring(new long[0], new int[0], 0);
+    private int memberCount;
+
+    /**
+     * Creates a KeyRouter with no members, for a FederatedQueryExecutor
+     * with any number of members. The member indices are checked when the
+     * KeyRouter is given to the FederatedQueryExecutor.
+     *
+     * @param virtualNodes the number of points of each member on the ring;
+     *        more points spread the ids more evenly, such as 100 to 200
+     * @param replicationFactor the number of members that own each id
+     */
+    public KeyRouter(int virtualNodes, int replicationFactor) {
+        this(virtualNodes, replicationFactor, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a KeyRouter with no members, for a FederatedQueryExecutor
+     * with the given number of members.
+     *
+     * @param virtualNodes the number of points of each member on the ring;
+     *        more points spread the ids more evenly, such as 100 to 200
+     * @param replicationFactor the number of members that own each id
+     * @param memberCount the number of members of the FederatedQueryExecutor
+     */
+    public KeyRouter(int virtualNodes, int replicationFactor, int memberCount) {
+        if (virtualNodes < 1 || replicationFactor < 1 || memberCount < 1) {
+            throw new IllegalArgumentException(virtualNodes + ", " +
+                replicationFactor + ", " + memberCount);
+        }
+        this.virtualNodes = virtualNodes;
+        this.replicationFactor = replicationFactor;
+        this.memberCount = memberCount;
+    }
+
+    /**
+     * Adds a member, or moves it to new points if its name changed.
+     *
+     * @param member the index of the member in the FederatedQueryExecutor
+     * @param name the stable name the points of the member are derived from
+     * @throws IllegalArgumentException if there is no member with that index
+     */
+    public synchronized void addMember(int member, String name) {
+        if (name == null) {
+            throw new NullPointerException();
+        }
+        if (member < 0 || member >= memberCount) {
+            throw new IllegalArgumentException("No member " + member +
+                " in a federation of " + memberCount);
+        }
+        names.put(member, name);
+        rebuild();
+    }
+
+    /**
+     * Limits the member indices to those of a FederatedQueryExecutor.
+     *
+     * @throws IllegalArgumentException if a member already added has no
+     *         index in the FederatedQueryExecutor
+     */
+    synchronized void bind(int memberCount) {
+        for (Integer member : names.keySet()) {
+            if (member >= memberCount) {
+                throw new IllegalArgumentException("No member " + member +
+                    " in a federation of " + memberCount);
+            }
+        }
+        this.memberCount = Math.min(this.memberCount, memberCount);
+    }
+
+    /**
+     * Removes a member, whose ids go to the members next to its points.
+     *
+     * @param member the index of the member
+     */
+    public synchronized void removeMember(int member) {
+        if (names.remove(member) != null) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Gets the number of members that own each id.
+     *
+     * @return the replication factor
+     */
+    public int getReplicationFactor() {
+        return replicationFactor;
+    }
+
+    /**
+     * Gets the members that own an id, primary owner first.
+     *
+     * @param id a Key id
+     * @return the indices of the owning members, as many as the
+     *         replication factor or the number of members if it is lower
+     */
+    public int[] route(String id) {
+        Ring r = ring;
+        int count = Math.min(replicationFactor, r.memberCount);
+        int[] owners = new int[count];
+        if (count == 0) {
+            return owners;
+        }
+        int point = Arrays.binarySearch(r.hashes, hash(id));
+        if (point < 0) {
+            point = -point - 1;
+        }
+        int found = 0;
+        for (int i = 0; found < count; i++) {
+            int member = r.members[(point + i) % r.members.length];
+            boolean seen = false;
+            for (int j = 0; j < found && !seen; j++) {
+                seen = owners[j] == member;
+            }
+            if (!seen) {
+                owners[found++] = member;
+            }
+        }
+        return owners;
+    }
+
+    private void rebuild() {
+        int n = names.size() * virtualNodes;
+        long[] points = new long[n];
+        int[] owners = new int[n];
+        Integer[] order = new Integer[n];
+        int p = 0;
+        for (Map.Entry<Integer, String> e : names.entrySet()) {
+            for (int v = 0; v < virtualNodes; v++) {
+                points[p] = hash(e.getValue() + '#' + v);
+                owners[p] = e.getKey();
+                order[p] = p;
+                p++;
+            }
+        }
+        final long[] unsorted = points;
+        Arrays.sort(order, (a, b) -> Long.compare(unsorted[a], unsorted[b]));
+        long[] hashes = new long[n];
+        int[] members = new int[n];
+        for (int i = 0; i < n; i++) {
+            hashes[i] = points[order[i]];
+            members[i] = owners[order[i]];
+        }
+        ring = new Ring(hashes, members, names.size());
+    }
+
+    /**
+     * FNV-1a over the characters, followed by the 64-bit finalizer of
+     * MurmurHash3 to spread nearby strings over the whole ring.
+     */
+    private static long hash(String s) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
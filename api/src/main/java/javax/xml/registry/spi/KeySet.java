@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry.spi;
+
+import java.util.*;
+
+/**
+ * A set of Key ids, compared exactly as returned by Key.getId. Ids that
+ * are UUIDs, with or without a "urn:uuid:" or "uuid:" prefix, which is the
+ * form most registries use, are stored as three longs in an
+ * open-addressing table: the two halves of the UUID, and the prefix and
+ * case of its text, so that the id can only match itself. Each such id
+ * costs 24 to 48 bytes instead of a String and a hash entry. Other ids,
+ * including UUIDs that mix upper and lower case, are kept in a HashSet.
+ */
+final class KeySet {
+
+    private static final String[] PREFIXES = { "", "uuid:", "urn:uuid:" };
+
+    /** Slots of msb, lsb and form + 1; a form of 0 marks an empty slot. */
+    private long[] table = new long[48];
+    private int size;
+    private Set<String> others;
+
+    /**
+     * Adds an id.
+     *
+     * @return <code>true</code> if the id was not already in the set
+     */
+    boolean add(String id) {
+        int prefix = id.startsWith("urn:uuid:") ? 2 :
+            id.startsWith("uuid:") ? 1 : 0;
+        int start = PREFIXES[prefix].length();
+        if (id.length() - start != 36) {
+            return addOther(id);
+        }
+        long msb = 0;
+        long lsb = 0;
+        boolean lower = false;
+        boolean upper = false;
+        for (int i = 0; i < 36; i++) {
+            char c = id.charAt(start + i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return addOther(id);
+                }
+                continue;
+            }
+            int digit = Character.digit(c, 16);
+            if (digit < 0 || c > 'f') {
+                return addOther(id);
+            }
+            if (c >= 'a') {
+                lower = true;
+            } else if (c >= 'A') {
+                upper = true;
+            }
+            if (i < 18) {
+                msb = (msb << 4) | digit;
+            } else {
+                lsb = (lsb << 4) | digit;
+            }
+        }
+        if (lower && upper) {
+            return addOther(id);
+        }
+        return add(msb, lsb, prefix * 2 + (upper ? 1 : 0));
+    }
+
+    int size() {
+        return size + ((others != null) ? others.size() : 0);
+    }
+
+    private boolean addOther(String id) {
+        if (others == null) {
+            others = new HashSet<String>();
+        }
+        return others.add(id);
+    }
+
+    private boolean add(long msb, long lsb, int form) {
+        if ((size + 1) * 6 > table.length) {
+            resize();
+        }
+        if (!insert(table, msb, lsb, form + 1)) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    private static boolean insert(long[] table, long msb, long lsb,
+    long form) {
+        int slots = table.length / 3;
+        long h = (msb ^ lsb ^ form) * 0x9E3779B97F4A7C15L;
+        int slot = (int) ((h >>> 32) & 0x7fffffffL) % slots;
+        while (true) {
+            int i = slot * 3;
+            if (table[i + 2] == 0) {
+                table[i] = msb;
+                table[i + 1] = lsb;
+                table[i + 2] = form;
+                return true;
+            }
+            if (table[i] == msb && table[i + 1] == lsb &&
+                table[i + 2] == form) {
+                return false;
+            }
+            slot = (slot + 1 == slots) ? 0 : slot + 1;
+        }
+    }
+
+    private void resize() {
+        long[] old = table;
+        long[] grown = new long[old.length * 2];
+        for (int i = 0; i < old.length; i += 3) {
+            if (old[i + 2] != 0) {
+                insert(grown, old[i], old[i + 1], old[i + 2]);
+            }
+        }
+        table = grown;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry.spi;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * The latencies of the most recent requests, and a percentile of them.
+ * The percentile is recomputed every few samples rather than on every
+ * read. Concurrent writers may overwrite each other's samples, which only
+ * makes the percentile slightly less precise.
+ */
+final class LatencyWindow {
+
+    private static final int SIZE = 1024;
+    private static final int RECOMPUTE_INTERVAL = 32;
+
+    private final double percentile;
+    private final long[] samples = new long[SIZE];
+    private final AtomicLong count = new AtomicLong();
+    private volatile long value = -1;
+
+    /**
+     * @param percentile the percentile to maintain, between 0 and 100 exclusive
+     */
+    LatencyWindow(double percentile) {
+        if (!(percentile > 0 && percentile < 100)) {
+            throw new IllegalArgumentException("percentile: " + percentile);
+        }
+        this.percentile = percentile;
+    }
+
+    void record(long nanos) {
+        long n = count.getAndIncrement();
+        samples[(int) (n & (SIZE - 1))] = nanos;
+        if ((n + 1) % RECOMPUTE_INTERVAL == 0) {
+            int size = (int) Math.min(n + 1, SIZE);
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100 * size) - 1;
+            value = sorted[Math.max(0, index)];
+        }
+    }
+
+    /**
+     * @return the percentile in nanoseconds, or -1 until enough samples
+     *         have been recorded
+     */
+    long get() {
+        return value;
+    }
+}
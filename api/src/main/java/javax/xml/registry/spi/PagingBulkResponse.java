@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry.spi;
+
+import java.util.*;
+
+import javax.xml.registry.*;
+
+/**
+ * A PagedBulkResponse that holds one page of objects and fetches the next
+ * page through a {@link PageFetcher} supplied by the provider. The page
+ * does not refer to the pages before or after it, so a client that only
+ * keeps the current page holds at most one page in memory.
+ */
+public class PagingBulkResponse implements PagedBulkResponse {
+
+    /**
+     * Fetches the page identified by a continuation token.
+     */
+    public interface PageFetcher {
+        /**
+         * Fetches a page.
+         *
+         * @param continuationToken the token of the page to fetch
+         * @return the page
+         * @throws JAXRException	If the Jakarta XML Registries provider encounters an internal error
+         */
+        PagedBulkResponse fetch(String continuationToken) throws JAXRException;
+    }
+
+    private final String requestId;
+    private final Collection page;
+    private final Collection exceptions;
+    private final String continuationToken;
+    private final int pageSize;
+    private final PageFetcher fetcher;
+
+    /**
+     * Creates a page.
+     *
+     * @param requestId the id of the request that produced this page
+     * @param page the objects of this page
+     * @param exceptions the exceptions for this page, or <code>null</code> if there are none
+     * @param continuationToken the token of the next page, or <code>null</code> if this is the last page
+     * @param pageSize the maximum number of objects in a page
+     * @param fetcher fetches the next page; may be <code>null</code> only if this is the last page
+     */
+    public PagingBulkResponse(String requestId, Collection page,
+    Collection exceptions, String continuationToken, int pageSize,
+    PageFetcher fetcher) {
+        if (page == null || (continuationToken != null && fetcher == null)) {
+            throw new NullPointerException();
+        }
+        this.requestId = requestId;
+        this.page = page;
+        this.exceptions = (exceptions == null || exceptions.isEmpty()) ?
+            null : exceptions;
+        this.continuationToken = continuationToken;
+        this.pageSize = pageSize;
+        this.fetcher = fetcher;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    public PagedBulkResponse nextPage() throws JAXRException {
+        if (continuationToken == null) {
+            return null;
+        }
+        return fetcher.fetch(continuationToken);
+    }
+
+    public Collection getCollection() {
+        return page;
+    }
+
+    public Collection getExceptions() {
+        return exceptions;
+    }
+
+    public boolean isPartialResponse() {
+        return continuationToken != null;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public int getStatus() {
+        return (exceptions == null) ? STATUS_SUCCESS : STATUS_WARNING;
+    }
+
+    public boolean isAvailable() {
+        return true;
+    }
+}
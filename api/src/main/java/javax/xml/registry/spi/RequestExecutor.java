@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry.spi;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import javax.xml.registry.*;
+
+/**
+ * Runs the requests of a non-synchronous Connection. Each Connection
+ * typically has its own RequestExecutor, which runs at most a configured
+ * number of requests at the same time; further requests wait in a queue
+ * without holding a thread.
+ * <p>
+ * A provider implements a non-synchronous call by submitting the work and
+ * returning the resulting AsyncBulkResponse at once. The response times out
+ * at the client's current Deadline or after the default request timeout:
+ * <pre>
+ * if (!connection.isSynchronous()) {
+ *     AsyncBulkResponse response = requestExecutor.submit(() -&gt; findOrganizationsNow(...));
+ *     tracker.track(response);
+ *     return response;
+ * }
+ * </pre>
+ *
+ * @see ConnectionConfiguration#EXECUTION_MODE
+ * @see ConnectionConfiguration#MAX_CONCURRENT_REQUESTS
+ */
+public class RequestExecutor implements Executor {
+
+    private static final AtomicInteger threadNumber = new AtomicInteger();
+
+    private final Executor executor;
+    private final boolean ownsExecutor;
+    private final int maxConcurrent;
+    private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<Runnable>();
+    private final AtomicInteger running = new AtomicInteger();
+    private volatile long requestTimeout = -1;
+
+    /**
+     * Creates a RequestExecutor that runs requests on the given Executor.
+     *
+     * @param executor the Executor that runs the requests
+     * @param maxConcurrent the maximum number of requests run at the same time, or -1 for no limit
+     */
+    public RequestExecutor(Executor executor, int maxConcurrent) {
+        this(executor, maxConcurrent, false);
+    }
+
+    private RequestExecutor(Executor executor, int maxConcurrent,
+    boolean ownsExecutor) {
+        if (executor == null) {
+            throw new NullPointerException("executor");
+        }
+        if (maxConcurrent == 0 || maxConcurrent < -1) {
+            throw new IllegalArgumentException("maxConcurrent=" + maxConcurrent);
+        }
+        this.executor = executor;
+        this.maxConcurrent = maxConcurrent;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * Creates a RequestExecutor as specified by the executionMode and
+     * maxConcurrentRequests connection properties. In the virtual mode each
+     * request runs on its own virtual thread; in the platform mode requests
+     * run on a pool of daemon threads.
+     *
+     * @param configuration the configuration of the Connection
+     * @return a new RequestExecutor, which should be shut down when the Connection is closed
+     * @throws UnsupportedCapabilityException if the virtual mode is requested and the Java runtime has no virtual threads
+     */
+    public static RequestExecutor create(ConnectionConfiguration configuration)
+    throws UnsupportedCapabilityException {
+        ExecutorService executor;
+        if (ConnectionConfiguration.EXECUTION_MODE_VIRTUAL.equals(
+            configuration.getExecutionMode())) {
+            executor = newVirtualThreadPerTaskExecutor();
+        } else {
+            executor = Executors.newCachedThreadPool(new ThreadFactory() {
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r,
+                        "jaxr-request-" + threadNumber.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+        }
+        RequestExecutor requestExecutor = new RequestExecutor(executor,
+            configuration.getMaxConcurrentRequests(), true);
+        requestExecutor.setRequestTimeout(configuration.getRequestTimeout(),
+            TimeUnit.MILLISECONDS);
+        return requestExecutor;
+    }
+
+    /**
+     * Sets the default time in which a submitted request must complete.
+     *
+     * @param timeout the request timeout, or -1 for none
+     * @param unit the unit of <code>timeout</code>
+     */
+    public void setRequestTimeout(long timeout, TimeUnit unit) {
+        requestTimeout = (timeout < 0) ? -1 : unit.toMillis(timeout);
+    }
+
+    /**
+     * Runs the given task when fewer than the maximum number of requests
+     * are running.
+     * <p>
+     * A queued task is handed to the underlying Executor later, by whichever
+     * thread frees a slot. If the Executor rejects it then, because it was
+     * shut down for example, a request made with submit completes
+     * exceptionally with the RejectedExecutionException; any other task is
+     * discarded, since its caller has already returned.
+     *
+     * @param task the task to run
+     * @throws RejectedExecutionException if the underlying Executor rejects the task before this method returns
+     */
+    public void execute(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException("task");
+        }
+        if (maxConcurrent < 0) {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException x) {
+                if (task instanceof Request) {
+                    ((Request) task).reject(x);
+                }
+                throw x;
+            }
+            return;
+        }
+        waiting.offer(task);
+        drain(task);
+    }
+
+    /**
+     * Submits a request and returns its response at once. The response
+     * gets a new unique request id, and times out at the current Deadline
+     * or after the default request timeout, whichever is earlier.
+     *
+     * @param request the work that computes the result of the request
+     * @return the response of the request
+     * @throws RejectedExecutionException if the underlying Executor rejects the request
+     * @see ConnectionConfiguration#getRequestDeadline()
+     */
+    public AsyncBulkResponse submit(Callable<BulkResponse> request) {
+        Deadline deadline = Deadline.current();
+        if (requestTimeout >= 0) {
+            deadline = Deadline.earliest(deadline,
+                Deadline.after(requestTimeout, TimeUnit.MILLISECONDS));
+        }
+        return submit(request, deadline);
+    }
+
+    /**
+     * Submits a request that must complete by the given deadline, and
+     * returns its response at once. The response gets a new unique request
+     * id. A request that is cancelled or times out before it starts is
+     * never run; one that is running is interrupted.
+     *
+     * @param request the work that computes the result of the request
+     * @param deadline the deadline of the request, or <code>null</code> if it has none
+     * @return the response of the request
+     * @throws RejectedExecutionException if the underlying Executor rejects the request
+     */
+    public AsyncBulkResponse submit(final Callable<BulkResponse> request,
+    Deadline deadline) {
+        CompletableFuture<BulkResponse> future =
+            new CompletableFuture<BulkResponse>();
+        AsyncBulkResponse response = new AsyncBulkResponse(
+            UUID.randomUUID().toString(), future, deadline);
+        execute(new Request(request, future, response));
+        return response;
+    }
+
+    /**
+     * Gets the number of requests currently running.
+     *
+     * @return the number of running requests
+     */
+    public int getRunningCount() {
+        return (maxConcurrent < 0) ? -1 : running.get();
+    }
+
+    /**
+     * Gets the number of requests waiting to run.
+     *
+     * @return the number of queued requests
+     */
+    public int getQueuedCount() {
+        return waiting.size();
+    }
+
+    /**
+     * Stops accepting requests. If the underlying Executor was created by
+     * {@link #create(ConnectionConfiguration)}, it is shut down as well;
+     * running requests are allowed to finish.
+     */
+    public void shutdown() {
+        if (ownsExecutor) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    /**
+     * Hands queued tasks to the underlying Executor while there are free
+     * slots. A rejection is only thrown to the caller if it concerns the
+     * caller's own task.
+     *
+     * @param own the task of the calling thread, or <code>null</code>
+     */
+    private void drain(Runnable own) {
+        while (!waiting.isEmpty()) {
+            int n = running.get();
+            if (n >= maxConcurrent) {
+                return;
+            }
+            if (!running.compareAndSet(n, n + 1)) {
+                continue;
+            }
+            final Runnable task = waiting.poll();
+            if (task == null) {
+                running.decrementAndGet();
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        running.decrementAndGet();
+                        drain(null);
+                    }
+                });
+            } catch (RejectedExecutionException x) {
+                running.decrementAndGet();
+                if (task instanceof Request) {
+                    ((Request) task).reject(x);
+                }
+                if (task == own) {
+                    throw x;
+                }
+            }
+        }
+    }
+
+    /**
+     * A request made with submit, which completes its response if it cannot
+     * be run.
+     */
+    private static final class Request implements Runnable {
+        private final Callable<BulkResponse> request;
+        private final CompletableFuture<BulkResponse> future;
+        private final AsyncBulkResponse response;
+
+        Request(Callable<BulkResponse> request,
+        CompletableFuture<BulkResponse> future, AsyncBulkResponse response) {
+            this.request = request;
+            this.future = future;
+            this.response = response;
+        }
+
+        public void run() {
+            if (future.isDone() || !response.setWorker(Thread.currentThread())) {
+                return;
+            }
+            try {
+                future.complete(request.call());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            } finally {
+                response.setWorker(null);
+                // do not leak a cancellation interrupt into the next task
+                Thread.interrupted();
+            }
+        }
+
+        void reject(RejectedExecutionException x) {
+            future.completeExceptionally(x);
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor()
+    throws UnsupportedCapabilityException {
+        // Looked up reflectively since this API is compiled for Java 8.
+        try {
+            Method m = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) m.invoke(null);
+        } catch (Exception x) {
+            throw new UnsupportedCapabilityException(
+                "Virtual threads are not available in this Java runtime", x);
+        }
+    }
+}
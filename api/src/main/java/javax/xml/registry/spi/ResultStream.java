@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry.spi;
+
+import java.util.*;
+
+import javax.xml.registry.*;
+
+/**
+ * The objects of one member's response, read in order. A stream over a
+ * PagedBulkResponse fetches the next page only when the objects of the
+ * current page have all been read, and a stream with a limit stops after
+ * that many objects, so a merge that needs only the first objects of
+ * each member never fetches the pages it does not need.
+ */
+final class ResultStream {
+
+    private BulkResponse response;
+    private Iterator it;
+    private int remaining;
+    private final boolean paging;
+    private List<JAXRException> pageExceptions;
+    private final BulkResponse first;
+
+    /**
+     * Creates a stream over the first page of a response only.
+     */
+    ResultStream(BulkResponse response) throws JAXRException {
+        this(response, Integer.MAX_VALUE, false);
+    }
+
+    /**
+     * Creates a stream over the pages of a response.
+     *
+     * @param limit the largest number of objects read
+     */
+    ResultStream(BulkResponse response, int limit) throws JAXRException {
+        this(response, limit, true);
+    }
+
+    private ResultStream(BulkResponse response, int limit, boolean paging)
+    throws JAXRException {
+        this.response = response;
+        this.first = response;
+        this.it = response.getCollection().iterator();
+        this.remaining = limit;
+        this.paging = paging;
+    }
+
+    boolean hasNext() throws JAXRException {
+        if (remaining <= 0) {
+            return false;
+        }
+        while (!it.hasNext()) {
+            if (!hasNextPage()) {
+                return false;
+            }
+            response = ((PagedBulkResponse) response).nextPage();
+            if (response == null) {
+                return false;
+            }
+            Collection exceptions = response.getExceptions();
+            if (exceptions != null) {
+                if (pageExceptions == null) {
+                    pageExceptions = new ArrayList<JAXRException>();
+                }
+                for (Object e : exceptions) {
+                    pageExceptions.add((JAXRException) e);
+                }
+            }
+            it = response.getCollection().iterator();
+        }
+        return true;
+    }
+
+    Object next() {
+        remaining--;
+        return it.next();
+    }
+
+    /**
+     * Determines, without fetching anything, whether objects are left
+     * that were not read.
+     */
+    boolean hasUnread() throws JAXRException {
+        return it.hasNext() || hasNextPage();
+    }
+
+    /**
+     * Gets the exceptions of the pages after the first.
+     */
+    List<JAXRException> getPageExceptions() {
+        return (pageExceptions != null) ? pageExceptions :
+            Collections.<JAXRException>emptyList();
+    }
+
+    /**
+     * Cancels the response if it is still running, for a stream that is
+     * no longer needed.
+     */
+    void close() {
+        cancel(first);
+        if (response != first) {
+            cancel(response);
+        }
+    }
+
+    private static void cancel(BulkResponse response) {
+        if (response instanceof CancellableBulkResponse) {
+            try {
+                ((CancellableBulkResponse) response).cancel();
+            } catch (JAXRException e) {
+                // the result is complete without this response
+            }
+        }
+    }
+
+    private boolean hasNextPage() throws JAXRException {
+        return paging && response instanceof PagedBulkResponse &&
+            ((PagedBulkResponse) response).getContinuationToken() != null;
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package javax.xml.registry.spi;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+import javax.xml.registry.*;
+import javax.xml.registry.infomodel.*;
+
+/**
+ * Merges the results of several registries, each sorted as requested by
+ * the sort find qualifiers of the query, into one sorted result with a
+ * k-way merge. Objects that compare equal keep the order of the members
+ * they came from. The sort keys of an object are computed once, when it
+ * reaches the head of its run.
+ * <p>
+ * Names are compared ignoring case, as registries usually sort them,
+ * unless the query has the CASE_SENSITIVE_MATCH qualifier. A member that
+ * sorts by a collation of its own can still produce runs that are out of
+ * order for this merge.
+ * <p>
+ * The date of an object is the latest timestamp of its audit trail. An
+ * object whose registry has no audit trail, as at capability level 0,
+ * has no date and sorts after those that have one.
+ * <p>
+ * The heap holds one object per member, and a merge with a limit stops
+ * reading the members as soon as the limit is reached.
+ */
+final class SortedMerge {
+
+    private static final int NAME = 0;
+    private static final int DATE = 1;
+
+    private final int[] keys;
+    private final boolean[] descending;
+    private final Comparator<String> names;
+
+    private SortedMerge(int[] keys, boolean[] descending,
+    boolean caseSensitive) {
+        this.keys = keys;
+        this.descending = descending;
+        this.names = caseSensitive ?
+            Comparator.<String>naturalOrder() : String.CASE_INSENSITIVE_ORDER;
+    }
+
+    /**
+     * The merges by sort flags and precedence, computed once so that
+     * getting the merge of a query allocates nothing.
+     */
+    private static final SortedMerge[] merges = new SortedMerge[64];
+
+    static {
+        int[] nameSorts = { 0, FindQualifierSet.SORT_BY_NAME_ASC,
+            FindQualifierSet.SORT_BY_NAME_DESC };
+        int[] dateSorts = { 0, FindQualifierSet.SORT_BY_DATE_ASC,
+            FindQualifierSet.SORT_BY_DATE_DESC };
+        for (int nameSort : nameSorts) {
+            for (int dateSort : dateSorts) {
+                if (nameSort == 0 && dateSort == 0) {
+                    continue;
+                }
+                for (int dateFirst = 0; dateFirst < 2; dateFirst++) {
+                    int[] keys = new int[2];
+                    boolean[] descending = new boolean[2];
+                    int count = 0;
+                    if (dateFirst == 1 && dateSort != 0) {
+                        keys[count] = DATE;
+                        descending[count++] =
+                            dateSort == FindQualifierSet.SORT_BY_DATE_DESC;
+                    }
+                    if (nameSort != 0) {
+                        keys[count] = NAME;
+                        descending[count++] =
+                            nameSort == FindQualifierSet.SORT_BY_NAME_DESC;
+                    }
+                    if (dateFirst == 0 && dateSort != 0) {
+                        keys[count] = DATE;
+                        descending[count++] =
+                            dateSort == FindQualifierSet.SORT_BY_DATE_DESC;
+                    }
+                    for (int caseSensitive = 0; caseSensitive < 2;
+                        caseSensitive++) {
+                        merges[index(nameSort | dateSort, dateFirst == 1,
+                            caseSensitive == 1)] =
+                            new SortedMerge(Arrays.copyOf(keys, count),
+                                Arrays.copyOf(descending, count),
+                                caseSensitive == 1);
+                    }
+                }
+            }
+        }
+    }
+
+    private static int index(int sortFlags, boolean dateFirst,
+    boolean caseSensitive) {
+        return ((sortFlags / FindQualifierSet.SORT_BY_NAME_ASC) << 2) |
+            (dateFirst ? 2 : 0) | (caseSensitive ? 1 : 0);
+    }
+
+    /**
+     * Gets the merge for the sort find qualifiers in the given set, in
+     * their order of precedence.
+     *
+     * @return the merge, or <code>null</code> if no sort is requested
+     */
+    static SortedMerge forQualifiers(FindQualifierSet findQualifiers) {
+        int sortFlags = findQualifiers.getFlags() & FindQualifierSet.SORT_FLAGS;
+        if (sortFlags == 0) {
+            return null;
+        }
+        return merges[index(sortFlags, findQualifiers.isDateSortFirst(),
+            findQualifiers.has(FindQualifierSet.CASE_SENSITIVE_MATCH))];
+    }
+
+    /**
+     * Merges sorted streams into one sorted List.
+     *
+     * @param dedup drops the objects already merged, or <code>null</code>
+     * @param limit the largest number of objects merged
+     */
+    List<Object> merge(List<ResultStream> runs, Deduplicator dedup, int limit)
+    throws JAXRException {
+        PriorityQueue<Cursor> heads = new PriorityQueue<Cursor>(
+            Math.max(1, runs.size()), this::compare);
+        for (int i = 0; i < runs.size(); i++) {
+            Cursor cursor = new Cursor(runs.get(i), i);
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        List<Object> merged = new ArrayList<Object>();
+        Cursor cursor;
+        while (merged.size() < limit && (cursor = heads.poll()) != null) {
+            if (dedup == null || dedup.accept(cursor.head)) {
+                merged.add(cursor.head);
+            }
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Concatenates streams in member order, for queries without a sort.
+     *
+     * @param dedup drops the objects already added, or <code>null</code>
+     * @param limit the largest number of objects added
+     */
+    static List<Object> concat(List<ResultStream> runs, Deduplicator dedup,
+    int limit) throws JAXRException {
+        List<Object> all = new ArrayList<Object>();
+        for (ResultStream run : runs) {
+            while (all.size() < limit && run.hasNext()) {
+                Object o = run.next();
+                if (dedup == null || dedup.accept(o)) {
+                    all.add(o);
+                }
+            }
+        }
+        return all;
+    }
+
+    private int compare(Cursor c1, Cursor c2) {
+        for (int i = 0; i < keys.length; i++) {
+            Object k1 = c1.headKeys[i];
+            Object k2 = c2.headKeys[i];
+            if (k1 == null || k2 == null) {
+                if (k1 != k2) {
+                    return (k1 == null) ? 1 : -1;
+                }
+                continue;
+            }
+            int c = (keys[i] == NAME) ?
+                names.compare((String) k1, (String) k2) :
+                ((Timestamp) k1).compareTo((Timestamp) k2);
+            if (c != 0) {
+                return descending[i] ? -c : c;
+            }
+        }
+        return c1.member - c2.member;
+    }
+
+    private Object key(Object o, int key) throws JAXRException {
+        if (!(o instanceof RegistryObject)) {
+            return null;
+        }
+        RegistryObject ro = (RegistryObject) o;
+        if (key == NAME) {
+            InternationalString name = ro.getName();
+            return (name != null) ? name.getValue() : null;
+        }
+        Collection events;
+        try {
+            events = ro.getAuditTrail();
+        } catch (UnsupportedCapabilityException e) {
+            return null;
+        }
+        Timestamp latest = null;
+        if (events != null) {
+            for (Object e : events) {
+                Timestamp t = ((AuditableEvent) e).getTimestamp();
+                if (t != null && (latest == null || t.after(latest))) {
+                    latest = t;
+                }
+            }
+        }
+        return latest;
+    }
+
+    private final class Cursor {
+        final ResultStream it;
+        final int member;
+        final Object[] headKeys = new Object[keys.length];
+        Object head;
+
+        Cursor(ResultStream it, int member) {
+            this.it = it;
+            this.member = member;
+        }
+
+        boolean advance() throws JAXRException {
+            if (!it.hasNext()) {
+                return false;
+            }
+            head = it.next();
+            for (int i = 0; i < keys.length; i++) {
+                headKeys[i] = key(head, keys[i]);
+            }
+            return true;
+        }
+    }
+}